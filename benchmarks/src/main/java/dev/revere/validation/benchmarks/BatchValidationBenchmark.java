@@ -0,0 +1,58 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.result.BatchResult;
+import dev.revere.validation.result.ViolationReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a large batch in a loop on one thread with the parallel
+ * {@link ValidationEngine#validateBatch(java.util.Collection)}.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchValidationBenchmark {
+    @Param({"100000"})
+    private int size;
+
+    private ValidationEngine engine;
+    private List<Object> beans;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        beans = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            beans.add(Beans.create(Beans.Shape.MANY_FIELDS, i % 100 != 0));
+        }
+    }
+
+    @Benchmark
+    public int sequential() {
+        int invalid = 0;
+        ViolationReport report = new ViolationReport();
+        for (Object bean : beans) {
+            if (!engine.validateAll(bean, report).isValid()) {
+                invalid++;
+            }
+        }
+        return invalid;
+    }
+
+    @Benchmark
+    public BatchResult parallel() {
+        return engine.validateBatch(beans);
+    }
+}
@@ -0,0 +1,177 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.annotations.*;
+
+import java.time.LocalDate;
+
+/**
+ * Sample beans of different shapes shared by the engine benchmarks. Invalid instances break
+ * only their last constrained field, so fail-fast validation still reads every field.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class Beans {
+
+    public enum Shape {
+        FEW_FIELDS,
+        MANY_FIELDS,
+        STRING_HEAVY,
+        NUMERIC,
+        DATE_HEAVY
+    }
+
+    private Beans() {}
+
+    /**
+     * @param shape The shape of the bean.
+     * @param valid Whether the bean should pass validation.
+     * @return A new bean of the given shape.
+     */
+    public static Object create(Shape shape, boolean valid) {
+        LocalDate today = LocalDate.now();
+        return switch (shape) {
+            case FEW_FIELDS -> new FewFields("validUser", valid ? 7 : 11);
+            case MANY_FIELDS -> new ManyFields("validUser", "secret12", "user@example.com", "en-GB", "abc_123",
+                    "Some description", 42.0, 7, 3.5, 1200.0, today.minusYears(30), valid ? today.plusDays(3) : today.minusDays(3));
+            case STRING_HEAVY -> new StringHeavy("validUser", "secret12", "user@example.com", "en-GB", "abc_123",
+                    valid ? "Some description" : " ");
+            case NUMERIC -> new Numeric(42.0, 7, 3.5, 1200.0, 0.25, valid ? 64.0 : 512.0);
+            case DATE_HEAVY -> new DateHeavy(today.minusYears(30), today.minusDays(1), today.plusDays(1),
+                    valid ? today.plusYears(1) : today.minusYears(1));
+        };
+    }
+
+    public static class FewFields {
+        @NotNull
+        @MinLength(3)
+        private final String name;
+        @Range(min = 1, max = 10)
+        private final Integer level;
+
+        public FewFields(String name, Integer level) {
+            this.name = name;
+            this.level = level;
+        }
+    }
+
+    public static class ManyFields {
+        @NotNull
+        @MinLength(3)
+        @MaxLength(20)
+        private final String username;
+        @Size(min = 6, max = 32)
+        private final String password;
+        @Email
+        private final String email;
+        @Pattern("^[a-z]{2}-[A-Z]{2}$")
+        private final String locale;
+        @Pattern("^[a-z0-9_]+$")
+        private final String handle;
+        @NotEmpty
+        @MaxLength(200)
+        private final String description;
+        @MinValue(0)
+        @MaxValue(100)
+        private final Double score;
+        @Range(min = 1, max = 10)
+        private final Integer level;
+        @Range(min = 0, max = 5)
+        private final Double rating;
+        @MinValue(0)
+        private final Double balance;
+        @PastDate
+        private final LocalDate birthday;
+        @FutureDate
+        private final LocalDate renewal;
+
+        public ManyFields(String username, String password, String email, String locale, String handle,
+                          String description, Double score, Integer level, Double rating, Double balance,
+                          LocalDate birthday, LocalDate renewal) {
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.locale = locale;
+            this.handle = handle;
+            this.description = description;
+            this.score = score;
+            this.level = level;
+            this.rating = rating;
+            this.balance = balance;
+            this.birthday = birthday;
+            this.renewal = renewal;
+        }
+    }
+
+    public static class StringHeavy {
+        @NotNull
+        @MinLength(3)
+        @MaxLength(20)
+        private final String username;
+        @Size(min = 6, max = 32)
+        private final String password;
+        @Email
+        private final String email;
+        @Pattern("^[a-z]{2}-[A-Z]{2}$")
+        private final String locale;
+        @Pattern("^[a-z0-9_]+$")
+        private final String handle;
+        @NotEmpty
+        @MaxLength(200)
+        private final String description;
+
+        public StringHeavy(String username, String password, String email, String locale, String handle, String description) {
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.locale = locale;
+            this.handle = handle;
+            this.description = description;
+        }
+    }
+
+    public static class Numeric {
+        @MinValue(0)
+        @MaxValue(100)
+        private final Double score;
+        @Range(min = 1, max = 10)
+        private final Integer level;
+        @Range(min = 0, max = 5)
+        private final Double rating;
+        @MinValue(0)
+        private final Double balance;
+        @MaxValue(1)
+        private final Double ratio;
+        @Range(min = 1, max = 256)
+        private final Double size;
+
+        public Numeric(Double score, Integer level, Double rating, Double balance, Double ratio, Double size) {
+            this.score = score;
+            this.level = level;
+            this.rating = rating;
+            this.balance = balance;
+            this.ratio = ratio;
+            this.size = size;
+        }
+    }
+
+    public static class DateHeavy {
+        @PastDate
+        private final LocalDate birthday;
+        @PastDate
+        private final LocalDate joined;
+        @FutureDate
+        private final LocalDate renewal;
+        @NotNull
+        @FutureDate
+        private final LocalDate expiry;
+
+        public DateHeavy(LocalDate birthday, LocalDate joined, LocalDate renewal, LocalDate expiry) {
+            this.birthday = birthday;
+            this.joined = joined;
+            this.renewal = renewal;
+            this.expiry = expiry;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.column.ColumnKernel;
+import dev.revere.validation.column.ColumnValidator;
+import dev.revere.validation.constraints.impl.RangeConstraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of validating a column of values against a range, one boxed value
+ * at a time through {@link RangeConstraint} and with the scalar and vector column kernels.
+ * Divide the number of rows by the reported time to get values per second.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Benchmark)
+public class ColumnBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private RangeConstraint constraint;
+    private ColumnValidator scalar;
+    private ColumnValidator vector;
+    private double[] doubles;
+    private int[] ints;
+    private long[] bitmap;
+
+    @Setup
+    public void setUp() {
+        constraint = new RangeConstraint(0, 1);
+        scalar = ColumnValidator.of(ColumnKernel.scalar(), constraint);
+        vector = ColumnValidator.of(ColumnKernel.preferred(), constraint);
+        SplittableRandom random = new SplittableRandom(42);
+        doubles = random.doubles(rows, -0.01, 1.01).toArray();
+        ints = random.ints(rows, -1, 3).toArray();
+        bitmap = new long[ColumnValidator.bitmapLength(rows)];
+    }
+
+    @Benchmark
+    public int boxedConstraint() {
+        int failures = 0;
+        for (double value : doubles) {
+            if (!constraint.isValid((Object) value)) {
+                failures++;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int scalarDoubles() {
+        return scalar.validate(doubles, 0, rows, bitmap);
+    }
+
+    @Benchmark
+    public int vectorDoubles() {
+        return vector.validate(doubles, 0, rows, bitmap);
+    }
+
+    @Benchmark
+    public int scalarInts() {
+        return scalar.validate(ints, 0, rows, bitmap);
+    }
+
+    @Benchmark
+    public int vectorInts() {
+        return vector.validate(ints, 0, rows, bitmap);
+    }
+}
@@ -0,0 +1,135 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.constraints.impl.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the check of every built-in constraint on its own, without field access or plan
+ * overhead.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstraintBenchmark {
+    private final EmailConstraint email = new EmailConstraint();
+    private final FutureDateConstraint futureDate = new FutureDateConstraint();
+    private final PastDateConstraint pastDate = new PastDateConstraint();
+    private final MaxLengthConstraint maxLength = new MaxLengthConstraint(20);
+    private final MinLengthConstraint minLength = new MinLengthConstraint(3);
+    private final MaxValueConstraint maxValue = new MaxValueConstraint(100);
+    private final MinValueConstraint minValue = new MinValueConstraint(0);
+    private final NotEmptyConstraint notEmpty = new NotEmptyConstraint();
+    private final NotNullConstraint notNull = new NotNullConstraint();
+    private final PatternConstraint pattern = new PatternConstraint("^[a-z][a-z0-9_]{2,19}$");
+    private final RangeConstraint range = new RangeConstraint(1, 10);
+    private final SizeConstraint size = new SizeConstraint(6, 32);
+
+    private String text;
+    private String address;
+    private Double number;
+    private Integer level;
+    private int count;
+    private long id;
+    private LocalDate tomorrow;
+    private LocalDate yesterday;
+    private Instant lastHour;
+
+    @Setup
+    public void setUp() {
+        text = "valid_user42";
+        address = "first.last@mail.example.com";
+        number = 42.0;
+        level = 7;
+        count = 42;
+        id = 7L;
+        tomorrow = LocalDate.now().plusDays(1);
+        yesterday = LocalDate.now().minusDays(1);
+        lastHour = Instant.now().minusSeconds(3600);
+    }
+
+    @Benchmark
+    public boolean email() {
+        return email.isValid(address);
+    }
+
+    @Benchmark
+    public boolean futureDate() {
+        return futureDate.isValid(tomorrow);
+    }
+
+    @Benchmark
+    public boolean pastDate() {
+        return pastDate.isValid(yesterday);
+    }
+
+    @Benchmark
+    public boolean pastInstant() {
+        return pastDate.isValid(lastHour);
+    }
+
+    @Benchmark
+    public boolean maxLength() {
+        return maxLength.isValid(text);
+    }
+
+    @Benchmark
+    public boolean minLength() {
+        return minLength.isValid(text);
+    }
+
+    @Benchmark
+    public boolean maxValue() {
+        return maxValue.isValid(number);
+    }
+
+    @Benchmark
+    public boolean minValue() {
+        return minValue.isValid(number);
+    }
+
+    @Benchmark
+    public boolean minValueInt() {
+        return minValue.isValid(count);
+    }
+
+    @Benchmark
+    public boolean notEmpty() {
+        return notEmpty.isValid(text);
+    }
+
+    @Benchmark
+    public boolean notNull() {
+        return notNull.isValid(text);
+    }
+
+    @Benchmark
+    public boolean pattern() {
+        return pattern.isValid(text);
+    }
+
+    @Benchmark
+    public boolean range() {
+        return range.isValid(level);
+    }
+
+    @Benchmark
+    public boolean rangeLong() {
+        return range.isValid(id);
+    }
+
+    @Benchmark
+    public boolean size() {
+        return size.isValid(text);
+    }
+}
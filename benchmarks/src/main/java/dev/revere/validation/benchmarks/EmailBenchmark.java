@@ -0,0 +1,45 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.constraints.impl.EmailConstraint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link EmailConstraint} with the regular expression it used before on valid and
+ * invalid addresses.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailBenchmark {
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+
+    @Param({"first.last@mail.example.com", "first.last@mail.example.technology", "first last@example.com"})
+    private String address;
+
+    private EmailConstraint constraint;
+
+    @Setup
+    public void setUp() {
+        constraint = new EmailConstraint();
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return EMAIL_PATTERN.matcher(address).matches();
+    }
+
+    @Benchmark
+    public boolean scanner() {
+        return constraint.isValid(address);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.plan.FieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading fields through {@link FieldAccessor} with the reflective path that
+ * {@code ConstraintProcessor} used before, which called {@code setAccessible} and
+ * {@link Field#get} on every validation.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+    private Sample sample;
+    private Field nameField;
+    private Field countField;
+    private FieldAccessor nameAccessor;
+    private FieldAccessor countAccessor;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        sample = new Sample("validUser", 42);
+        nameField = Sample.class.getDeclaredField("name");
+        countField = Sample.class.getDeclaredField("count");
+        nameAccessor = FieldAccessor.of(nameField);
+        countAccessor = FieldAccessor.of(countField);
+    }
+
+    @Benchmark
+    public Object reflectiveWithSetAccessible() throws IllegalAccessException {
+        nameField.setAccessible(true);
+        return nameField.get(sample);
+    }
+
+    @Benchmark
+    public Object reflective() throws IllegalAccessException {
+        return nameField.get(sample);
+    }
+
+    @Benchmark
+    public Object accessor() {
+        return nameAccessor.get(sample);
+    }
+
+    @Benchmark
+    public Object reflectiveBoxedInt() throws IllegalAccessException {
+        countField.setAccessible(true);
+        return countField.get(sample);
+    }
+
+    @Benchmark
+    public int accessorInt() {
+        return countAccessor.getInt(sample);
+    }
+
+    static class Sample {
+        private final String name;
+        private final int count;
+
+        Sample(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.metrics.ValidationStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of recording metrics, with the metrics off and with
+ * {@link ValidationStats} installed, on one and on all available threads.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private ValidationEngine engine;
+    private Object bean;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        if (metrics) {
+            engine.setMetrics(new ValidationStats());
+        }
+        bean = Beans.create(Beans.Shape.FEW_FIELDS, true);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return engine.isValid(bean);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean isValidContended() {
+        return engine.isValid(bean);
+    }
+}
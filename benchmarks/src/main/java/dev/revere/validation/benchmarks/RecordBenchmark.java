@@ -0,0 +1,91 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ConstraintProcessor;
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.Email;
+import dev.revere.validation.annotations.MaxValue;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.annotations.MinValue;
+import dev.revere.validation.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating a record against an equivalent hand-written class, interpreted and
+ * compiled.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private ValidationEngine engine;
+    private CustomerRecord customerRecord;
+    private CustomerClass customerClass;
+
+    @Setup
+    public void setUp() {
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.setCompilationThreshold(compiled ? 0 : -1);
+        engine = new ValidationEngine(processor);
+        customerRecord = new CustomerRecord("Remi", "remi@example.com", 30, 1250.0);
+        customerClass = new CustomerClass("Remi", "remi@example.com", 30, 1250.0);
+    }
+
+    @Benchmark
+    public boolean isValidRecord() {
+        return engine.isValid(customerRecord);
+    }
+
+    @Benchmark
+    public boolean isValidClass() {
+        return engine.isValid(customerClass);
+    }
+
+    @Benchmark
+    public boolean validateAllRecord() {
+        return engine.validateAll(customerRecord).isValid();
+    }
+
+    @Benchmark
+    public boolean validateAllClass() {
+        return engine.validateAll(customerClass).isValid();
+    }
+
+    public record CustomerRecord(@NotNull @MinLength(2) String name,
+                                 @NotNull @Email String email,
+                                 @MinValue(18) @MaxValue(130) int age,
+                                 @MinValue(0) double balance) {
+    }
+
+    public static final class CustomerClass {
+        @NotNull
+        @MinLength(2)
+        private final String name;
+        @NotNull
+        @Email
+        private final String email;
+        @MinValue(18)
+        @MaxValue(130)
+        private final int age;
+        @MinValue(0)
+        private final double balance;
+
+        public CustomerClass(String name, String email, int age, double balance) {
+            this.name = name;
+            this.email = email;
+            this.age = age;
+            this.balance = balance;
+        }
+    }
+}
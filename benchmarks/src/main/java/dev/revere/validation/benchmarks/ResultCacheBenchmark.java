@@ -0,0 +1,58 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.Email;
+import dev.revere.validation.annotations.MaxValue;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.annotations.MinValue;
+import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.cache.ResultCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures validating the same immutable instance again, with the result cache off and on.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultCacheBenchmark {
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private ValidationEngine engine;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        if (cache) {
+            engine.setResultCache(new ResultCache());
+        }
+        customer = new Customer("Remi", "remi@example.com", 30, 1250.0);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return engine.isValid(customer);
+    }
+
+    @Benchmark
+    public boolean validateAll() {
+        return engine.validateAll(customer).isValid();
+    }
+
+    public record Customer(@NotNull @MinLength(2) String name,
+                           @NotNull @Email String email,
+                           @MinValue(18) @MaxValue(130) int age,
+                           @MinValue(0) double balance) {
+    }
+}
@@ -0,0 +1,54 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.result.ViolationReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation of a many-field bean of which one field changed: the full
+ * validation against {@code revalidate} on the previous snapshot and {@code validateFields}
+ * on the changed field.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RevalidationBenchmark {
+    private ValidationEngine engine;
+    private Beans.ManyFields previous;
+    private Beans.ManyFields current;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        LocalDate today = LocalDate.now();
+        previous = new Beans.ManyFields("validUser", "secret12", "user@example.com", "en-GB", "abc_123",
+                "Some description", 42.0, 7, 3.5, 1200.0, today.minusYears(30), today.plusDays(3));
+        current = new Beans.ManyFields("validUser", "secret12", "user@example.com", "en-GB", "abc_123",
+                "Some description", 43.0, 7, 3.5, 1200.0, today.minusYears(30), today.plusDays(3));
+    }
+
+    @Benchmark
+    public ViolationReport validateAll() {
+        return engine.validateAll(current);
+    }
+
+    @Benchmark
+    public ViolationReport revalidate() {
+        return engine.revalidate(previous, current);
+    }
+
+    @Benchmark
+    public ViolationReport validateFields() {
+        return engine.validateFields(current, "score");
+    }
+}
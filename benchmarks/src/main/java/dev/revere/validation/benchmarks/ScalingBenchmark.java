@@ -0,0 +1,64 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of one {@link ValidationEngine} shared by an increasing number of
+ * threads. The per-thread throughput should stay flat while the cached plans are only read.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScalingBenchmark {
+    @Param({"FEW_FIELDS", "MANY_FIELDS"})
+    private Beans.Shape shape;
+
+    private ValidationEngine engine;
+    private Object bean;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        bean = Beans.create(shape, true);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object threads1() throws ConstraintViolationException, IllegalAccessException {
+        return validate();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Object threads2() throws ConstraintViolationException, IllegalAccessException {
+        return validate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object threads4() throws ConstraintViolationException, IllegalAccessException {
+        return validate();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Object threadsMax() throws ConstraintViolationException, IllegalAccessException {
+        return validate();
+    }
+
+    private Object validate() throws ConstraintViolationException, IllegalAccessException {
+        engine.validate(bean);
+        return bean;
+    }
+}
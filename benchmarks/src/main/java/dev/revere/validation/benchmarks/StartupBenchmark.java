@@ -0,0 +1,58 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ConstraintFactory;
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.MaxLength;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import org.openjdk.jmh.annotations.*;
+import org.reflections.Reflections;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to the first validation in a fresh JVM.
+ *
+ * <p>{@code firstValidation} creates an engine and validates one object, which is what a
+ * short-lived job pays on startup. {@code reflectionsScan} runs the classpath scan that
+ * {@code ConstraintProcessor} performed for every new processor before the built-in factories
+ * were registered from a static table, as the baseline to compare against.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Benchmark
+    public ValidationEngine firstValidation() throws ConstraintViolationException, IllegalAccessException {
+        ValidationEngine engine = new ValidationEngine();
+        engine.validate(new User("validUser", "validPass"));
+        return engine;
+    }
+
+    @Benchmark
+    @SuppressWarnings("rawtypes")
+    public Set<Class<? extends ConstraintFactory>> reflectionsScan() {
+        return new Reflections("dev.revere.validation.constraints.factories").getSubTypesOf(ConstraintFactory.class);
+    }
+
+    static class User {
+        @MinLength(5)
+        private final String username;
+        @MaxLength(10)
+        private final String password;
+
+        User(String username, String password) {
+            this.username = username;
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ConstraintProcessor;
+import dev.revere.validation.annotations.*;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the interpreted validation plan with the compiled validator of the tiered mode.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TieredValidationBenchmark {
+    @Param({"-1", "0"})
+    private int compilationThreshold;
+
+    private ConstraintProcessor processor;
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        processor = new ConstraintProcessor();
+        processor.setCompilationThreshold(compilationThreshold);
+        account = new Account("validUser", "secret12", "user@example.com", 42.0, 7);
+    }
+
+    @Benchmark
+    public Account validate() throws ConstraintViolationException, IllegalAccessException {
+        processor.applyConstraints(account);
+        return account;
+    }
+
+    static class Account {
+        @NotNull
+        @MinLength(3)
+        @MaxLength(20)
+        private final String username;
+        @Size(min = 6, max = 32)
+        private final String password;
+        @Email
+        private final String email;
+        @MinValue(0)
+        @MaxValue(100)
+        private final Double score;
+        @Range(min = 1, max = 10)
+        private final Integer level;
+
+        Account(String username, String password, String email, Double score, Integer level) {
+            this.username = username;
+            this.password = password;
+            this.email = email;
+            this.score = score;
+            this.level = level;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.revere.validation.benchmarks;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import dev.revere.validation.result.ViolationReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ValidationEngine} on beans of different shapes with valid and invalid
+ * input. Run with {@code -prof gc} to see the allocation rate of each path.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationEngineBenchmark {
+    @Param({"FEW_FIELDS", "MANY_FIELDS", "STRING_HEAVY", "NUMERIC", "DATE_HEAVY"})
+    private Beans.Shape shape;
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    private ValidationEngine engine;
+    private ViolationReport report;
+    private Object bean;
+
+    @Setup
+    public void setUp() {
+        engine = new ValidationEngine();
+        report = new ViolationReport();
+        bean = Beans.create(shape, valid);
+    }
+
+    @Benchmark
+    public Object validate() throws IllegalAccessException {
+        try {
+            engine.validate(bean);
+            return bean;
+        } catch (ConstraintViolationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return engine.isValid(bean);
+    }
+
+    @Benchmark
+    public ViolationReport validateAll() {
+        return engine.validateAll(bean, report);
+    }
+}
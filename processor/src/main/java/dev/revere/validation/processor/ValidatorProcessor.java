@@ -0,0 +1,423 @@
+package dev.revere.validation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.*;
+
+/**
+ * Generates a {@code <Class>Validator} source file for every class whose fields use the
+ * annotations in {@code dev.revere.validation.annotations}.
+ *
+ * <p>The generated validator implements {@code CompiledValidator}, reads the constrained
+ * fields directly (or through a {@code VarHandle} for private fields) and calls the built-in
+ * constraints on static final instances. The {@code ConstraintProcessor} picks it up at
+ * runtime instead of building a validation plan through reflection. Primitive fields are
+ * read into primitive locals and checked through the primitive overloads of the numeric
+ * constraints, without boxing.</p>
+ *
+ * <p>Classes with constraints on the elements of a container field, such as
+ * {@code List<@NotEmpty String>} or {@code @MaxValue(100) int[]}, are skipped and keep
+ * being validated through their plan.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@SupportedAnnotationTypes("dev.revere.validation.annotations.*")
+public class ValidatorProcessor extends AbstractProcessor {
+    private static final String ANNOTATIONS_PACKAGE = "dev.revere.validation.annotations.";
+    private static final String HANDLE_LOOKUP = """
+
+                private static java.lang.invoke.VarHandle handle(Class<?> owner, String name, Class<?> type, boolean isStatic) {
+                    try {
+                        java.lang.invoke.MethodHandles.Lookup lookup = java.lang.invoke.MethodHandles.privateLookupIn(owner, java.lang.invoke.MethodHandles.lookup());
+                        return isStatic ? lookup.findStaticVarHandle(owner, name, type) : lookup.findVarHandle(owner, name, type);
+                    } catch (ReflectiveOperationException e) {
+                        throw new ExceptionInInitializerError(e);
+                    }
+                }
+            """;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.FIELD || element.getKind() == ElementKind.RECORD_COMPONENT) {
+                    types.add((TypeElement) element.getEnclosingElement());
+                }
+            }
+        }
+
+        for (TypeElement type : types) {
+            if (!isAccessible(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Skipping validator generation for inaccessible type " + type.getQualifiedName(), type);
+                continue;
+            }
+            if (hasElementConstraints(type)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        "Skipping validator generation for type " + type.getQualifiedName() + " with container element constraints", type);
+                continue;
+            }
+            try {
+                generate(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to generate validator: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a generated top-level class in the same package can refer to the type.
+     */
+    private boolean isAccessible(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement element) {
+            if (element.getModifiers().contains(Modifier.PRIVATE) || element.getNestingKind().isNested()
+                    && element.getNestingKind() != NestingKind.MEMBER) {
+                return false;
+            }
+            current = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a field of the type constrains the elements of its value, through an
+     * annotation on a type argument or on the component type of an array. As the annotations are
+     * applicable to type uses, any constraint other than {@code NotNull} written before an array
+     * type constrains its elements.
+     */
+    private boolean hasElementConstraints(TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            TypeMirror fieldType = field.asType();
+            if (fieldType.getKind() == TypeKind.ARRAY) {
+                for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                    BuiltIn builtIn = BuiltIn.of((TypeElement) mirror.getAnnotationType().asElement());
+                    if (builtIn != null && builtIn != BuiltIn.NOT_NULL) {
+                        return true;
+                    }
+                }
+                if (hasConstraint(((ArrayType) fieldType).getComponentType())) {
+                    return true;
+                }
+            } else if (fieldType.getKind() == TypeKind.DECLARED) {
+                for (TypeMirror argument : ((DeclaredType) fieldType).getTypeArguments()) {
+                    if (hasConstraint(argument)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean hasConstraint(TypeMirror typeUse) {
+        for (AnnotationMirror mirror : typeUse.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().toString().startsWith(ANNOTATIONS_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)).replace('$', '_') + "Validator";
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+        boolean record = type.getKind() == ElementKind.RECORD;
+
+        List<String> constants = new ArrayList<>();
+        List<String> handles = new ArrayList<>();
+        StringBuilder body = new StringBuilder();
+        Set<String> annotationNames = new TreeSet<>();
+
+        int fieldIndex = 0;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            List<AnnotationMirror> constraints = new ArrayList<>();
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+                if (isRuntimeRetained(annotationType)) {
+                    annotationNames.add(processingEnv.getElementUtils().getBinaryName(annotationType).toString());
+                }
+                if (BuiltIn.of(annotationType) != null) {
+                    constraints.add(mirror);
+                }
+            }
+            if (constraints.isEmpty()) {
+                continue;
+            }
+
+            String fieldName = field.getSimpleName().toString();
+            if (field.asType().getKind().isPrimitive()) {
+                if (!generatePrimitive(typeName, field, record, fieldIndex, constraints, constants, handles, body)) {
+                    break;
+                }
+                fieldIndex++;
+                continue;
+            }
+
+            String value = "value" + fieldIndex;
+            body.append("        Object ").append(value).append(" = ")
+                    .append(read(typeName, field, record, fieldIndex, handles)).append(";\n");
+            String indent = "        ";
+            if (hasNotNull(constraints)) {
+                body.append("        if (").append(value).append(" == null) {\n")
+                        .append("            throw new ConstraintViolationException(")
+                        .append(literal("Field " + fieldName + " cannot be null")).append(");\n")
+                        .append("        }\n");
+            } else {
+                body.append("        if (").append(value).append(" != null) {\n");
+                indent = "            ";
+            }
+
+            for (AnnotationMirror mirror : constraints) {
+                BuiltIn builtIn = BuiltIn.of((TypeElement) mirror.getAnnotationType().asElement());
+                if (builtIn == BuiltIn.NOT_NULL) {
+                    continue;
+                }
+
+                TypeMirror valueType = processingEnv.getElementUtils().getTypeElement(builtIn.valueType).asType();
+                TypeMirror fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+                if (!processingEnv.getTypeUtils().isAssignable(fieldType, valueType)) {
+                    body.append(indent).append("if (!(").append(value).append(" instanceof ").append(builtIn.valueType).append(")) {\n")
+                            .append(indent).append("    throw new ConstraintViolationException(")
+                            .append(literal("Field type mismatch for field " + fieldName)).append(");\n")
+                            .append(indent).append("}\n");
+                }
+
+                String constant = "C" + constants.size();
+                constants.add("    private static final " + builtIn.constraintType + " " + constant + " = new "
+                        + builtIn.constraintType + "(" + arguments(mirror, builtIn) + ");\n");
+                body.append(indent).append(constant).append(".validate((").append(builtIn.valueType).append(") ")
+                        .append(value).append(");\n");
+            }
+            if (!hasNotNull(constraints)) {
+                body.append("        }\n");
+            }
+            fieldIndex++;
+        }
+
+        if (body.isEmpty()) {
+            return;
+        }
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import dev.revere.validation.compiler.CompiledValidator;\n");
+            writer.write("import dev.revere.validation.compiler.GeneratedValidator;\n");
+            writer.write("import dev.revere.validation.exceptions.ConstraintViolationException;\n\n");
+            writer.write("@javax.annotation.processing.Generated(\"" + ValidatorProcessor.class.getName() + "\")\n");
+            writer.write("@GeneratedValidator(value = " + typeName + ".class, annotations = {");
+            writer.write(String.join(", ", annotationNames.stream().map(this::literal).toList()));
+            writer.write("})\n");
+            writer.write("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+            writer.write("public final class " + simpleName + " implements CompiledValidator {\n");
+            for (String constant : constants) {
+                writer.write(constant);
+            }
+            for (String handle : handles) {
+                writer.write(handle);
+            }
+            if (!handles.isEmpty()) {
+                writer.write(HANDLE_LOOKUP);
+            }
+            writer.write("\n    @Override\n");
+            writer.write("    public void validate(Object object) throws ConstraintViolationException {\n");
+            writer.write("        " + typeName + " instance = (" + typeName + ") object;\n");
+            writer.write(body.toString());
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * Generates the checks of a primitive field, read into a primitive local. The numeric
+     * constraints are checked through their primitive {@code isValid} overload, so the value is
+     * only boxed to throw a violation; {@code NotNull} is always met.
+     *
+     * @return False if a constraint never accepts the field's type, in which case the generated
+     * code always throws and nothing may follow it.
+     */
+    private boolean generatePrimitive(String typeName, VariableElement field, boolean record, int fieldIndex, List<AnnotationMirror> constraints,
+                                      List<String> constants, List<String> handles, StringBuilder body) {
+        String fieldName = field.getSimpleName().toString();
+        TypeKind kind = field.asType().getKind();
+        TypeMirror boxed = processingEnv.getTypeUtils().boxedClass((PrimitiveType) field.asType()).asType();
+        String value = "value" + fieldIndex;
+        body.append("        ").append(sourceName(field.asType())).append(" ").append(value).append(" = ")
+                .append(read(typeName, field, record, fieldIndex, handles)).append(";\n");
+
+        for (AnnotationMirror mirror : constraints) {
+            BuiltIn builtIn = BuiltIn.of((TypeElement) mirror.getAnnotationType().asElement());
+            if (builtIn == BuiltIn.NOT_NULL) {
+                continue;
+            }
+
+            TypeMirror valueType = processingEnv.getElementUtils().getTypeElement(builtIn.valueType).asType();
+            if (!processingEnv.getTypeUtils().isAssignable(boxed, valueType)) {
+                body.append("        throw new ConstraintViolationException(")
+                        .append(literal("Field type mismatch for field " + fieldName)).append(");\n");
+                return false;
+            }
+
+            String constant = "C" + constants.size();
+            constants.add("    private static final " + builtIn.constraintType + " " + constant + " = new "
+                    + builtIn.constraintType + "(" + arguments(mirror, builtIn) + ");\n");
+            boolean specialized = (builtIn == BuiltIn.MIN_VALUE || builtIn == BuiltIn.MAX_VALUE || builtIn == BuiltIn.RANGE)
+                    && kind != TypeKind.CHAR && kind != TypeKind.BOOLEAN;
+            if (specialized) {
+                body.append("        if (!").append(constant).append(".isValid(").append(value).append(")) {\n")
+                        .append("            ").append(constant).append(".validate(").append(value).append(");\n")
+                        .append("        }\n");
+            } else {
+                body.append("        ").append(constant).append(".validate(").append(value).append(");\n");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds the expression reading a field. Non-private fields are read directly, record
+     * components through their accessor and private fields through a static final VarHandle.
+     */
+    private String read(String typeName, VariableElement field, boolean record, int index, List<String> handles) {
+        String fieldName = field.getSimpleName().toString();
+        boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+        String owner = isStatic ? typeName : "instance";
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return owner + "." + fieldName;
+        }
+        if (record && !isStatic) {
+            return "instance." + fieldName + "()";
+        }
+
+        String fieldType = sourceName(field.asType());
+        String handle = "F" + index;
+        handles.add("    private static final java.lang.invoke.VarHandle " + handle + " = handle(" + typeName + ".class, "
+                + literal(fieldName) + ", " + fieldType + ".class, " + isStatic + ");\n");
+        return "(" + fieldType + ") " + handle + ".get(" + (isStatic ? "" : "instance") + ")";
+    }
+
+    /**
+     * Renders the erasure of a type as source code, without the type annotations that
+     * {@link TypeMirror#toString()} includes.
+     */
+    private String sourceName(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        return switch (erased.getKind()) {
+            case ARRAY -> sourceName(((ArrayType) erased).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+            default -> erased.getKind().isPrimitive() ? erased.getKind().name().toLowerCase(Locale.ROOT) : erased.toString();
+        };
+    }
+
+    private String arguments(AnnotationMirror mirror, BuiltIn builtIn) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+        List<String> arguments = new ArrayList<>();
+        for (String member : builtIn.members) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals(member)) {
+                    arguments.add(constant(entry.getValue().getValue()));
+                }
+            }
+        }
+        return String.join(", ", arguments);
+    }
+
+    private String constant(Object value) {
+        if (value instanceof VariableElement enumConstant) {
+            TypeElement enumType = (TypeElement) enumConstant.getEnclosingElement();
+            return enumType.getQualifiedName() + "." + enumConstant.getSimpleName();
+        }
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private boolean hasNotNull(List<AnnotationMirror> constraints) {
+        for (AnnotationMirror mirror : constraints) {
+            if (BuiltIn.of((TypeElement) mirror.getAnnotationType().asElement()) == BuiltIn.NOT_NULL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRuntimeRetained(TypeElement annotationType) {
+        Retention retention = annotationType.getAnnotation(Retention.class);
+        return retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    /**
+     * The built-in annotations with the constraint they create, the value type the constraint
+     * accepts and the annotation members passed to its constructor.
+     */
+    private enum BuiltIn {
+        EMAIL("Email", "EmailConstraint", "java.lang.String", "strictness"),
+        FUTURE_DATE("FutureDate", "FutureDateConstraint", "java.time.temporal.Temporal"),
+        MAX_LENGTH("MaxLength", "MaxLengthConstraint", "java.lang.String", "value"),
+        MAX_VALUE("MaxValue", "MaxValueConstraint", "java.lang.Number", "value"),
+        MIN_LENGTH("MinLength", "MinLengthConstraint", "java.lang.String", "value"),
+        MIN_VALUE("MinValue", "MinValueConstraint", "java.lang.Number", "value"),
+        NOT_EMPTY("NotEmpty", "NotEmptyConstraint", "java.lang.String"),
+        NOT_NULL("NotNull", "NotNullConstraint", "java.lang.Object"),
+        PAST_DATE("PastDate", "PastDateConstraint", "java.time.temporal.Temporal"),
+        PATTERN("Pattern", "PatternConstraint", "java.lang.CharSequence", "value", "flags"),
+        RANGE("Range", "RangeConstraint", "java.lang.Object", "min", "max"),
+        SIZE("Size", "SizeConstraint", "java.lang.String", "min", "max");
+
+        private final String annotation;
+        private final String constraintType;
+        private final String valueType;
+        private final String[] members;
+
+        BuiltIn(String annotation, String constraintType, String valueType, String... members) {
+            this.annotation = ANNOTATIONS_PACKAGE + annotation;
+            this.constraintType = "dev.revere.validation.constraints.impl." + constraintType;
+            this.valueType = valueType;
+            this.members = members;
+        }
+
+        static BuiltIn of(TypeElement annotationType) {
+            for (BuiltIn builtIn : values()) {
+                if (annotationType.getQualifiedName().contentEquals(builtIn.annotation)) {
+                    return builtIn;
+                }
+            }
+            return null;
+        }
+    }
+}
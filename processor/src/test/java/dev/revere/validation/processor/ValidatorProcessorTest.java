@@ -0,0 +1,222 @@
+package dev.revere.validation.processor;
+
+import dev.revere.validation.ConstraintFactory;
+import dev.revere.validation.ConstraintProcessor;
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.compiler.CompiledValidator;
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.impl.MinLengthConstraint;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class ValidatorProcessorTest {
+
+    private static final String ACCOUNT = """
+            package sample;
+
+            import dev.revere.validation.annotations.*;
+
+            public class Account {
+                @NotNull
+                @MinLength(3)
+                @MaxLength(10)
+                private final String username;
+                @Email
+                final String email;
+                @Range(min = 1, max = 10)
+                private final Integer level;
+                @Pattern("^[a-z]+$")
+                protected final Object code;
+
+                public Account(String username, String email, Integer level, Object code) {
+                    this.username = username;
+                    this.email = email;
+                    this.level = level;
+                    this.code = code;
+                }
+
+                public static class Settings {
+                    @Size(min = 2, max = 5)
+                    private final String locale;
+                    @Email(strictness = Email.Strictness.RELAXED)
+                    private final String contact;
+
+                    public Settings(String locale, String contact) {
+                        this.locale = locale;
+                        this.contact = contact;
+                    }
+                }
+
+                public static class Quota {
+                    @NotNull
+                    @MinValue(0)
+                    private final int count;
+                    @Range(min = 0, max = 0x1p53)
+                    final long bytes;
+
+                    public Quota(int count, long bytes) {
+                        this.count = count;
+                        this.bytes = bytes;
+                    }
+                }
+
+                public static class Telemetry {
+                    @NotEmpty
+                    private final String sensor;
+                    @MaxValue(100)
+                    private final int[] readings;
+
+                    public Telemetry(String sensor, int[] readings) {
+                        this.sensor = sensor;
+                        this.readings = readings;
+                    }
+                }
+            }
+            """;
+
+    private static final String POINT = """
+            package sample;
+
+            import dev.revere.validation.annotations.*;
+
+            public record Point(@MinValue(0) Double x, @NotNull @MaxValue(10) Double y) {
+            }
+            """;
+
+    @TempDir
+    static Path output;
+    private static ClassLoader loader;
+
+    @BeforeAll
+    public static void compileSources() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path sources = Files.createDirectories(output.resolve("src/sample"));
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        Files.writeString(sources.resolve("Account.java"), ACCOUNT);
+        Files.writeString(sources.resolve("Point.java"), POINT);
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path"), "-d", classes.toString(),
+                            "-s", output.resolve("generated").toString()),
+                    null, fileManager.getJavaFileObjects(sources.resolve("Account.java"), sources.resolve("Point.java")));
+            Files.createDirectories(output.resolve("generated"));
+            task.setProcessors(List.of(new ValidatorProcessor()));
+            assertTrue(task.call(), () -> "Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ValidatorProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void testGeneratesValidatorsForTopLevelNestedAndRecordTypes() {
+        assertTrue(Files.exists(output.resolve("generated/sample/AccountValidator.java")));
+        assertTrue(Files.exists(output.resolve("generated/sample/Account_SettingsValidator.java")));
+        assertTrue(Files.exists(output.resolve("generated/sample/PointValidator.java")));
+    }
+
+    @Test
+    public void testSkipsTypesWithElementConstraints() throws Exception {
+        assertFalse(Files.exists(output.resolve("generated/sample/Account_TelemetryValidator.java")));
+
+        Class<?> telemetry = loader.loadClass("sample.Account$Telemetry");
+        ValidationEngine engine = new ValidationEngine();
+        assertDoesNotThrow(() -> engine.validate(telemetry.getConstructor(String.class, int[].class)
+                .newInstance("probe", new int[]{12, 100})));
+        assertViolation(engine, telemetry.getConstructor(String.class, int[].class).newInstance("probe", new int[]{12, 101}),
+                "Value must be no more than 100.0");
+    }
+
+    @Test
+    public void testEngineUsesGeneratedValidator() throws Exception {
+        Class<?> account = loader.loadClass("sample.Account");
+        CompiledValidator validator = new ConstraintProcessor().getGeneratedValidator(account);
+        assertNotNull(validator, "Generated validator should be found.");
+        assertEquals("sample.AccountValidator", validator.getClass().getName());
+    }
+
+    @Test
+    public void testGeneratedValidatorReportsSameViolations() throws Exception {
+        ValidationEngine engine = new ValidationEngine();
+        assertDoesNotThrow(() -> engine.validate(account("validUser", "user@example.com", 5, "abc")));
+        assertViolation(engine, account(null, "user@example.com", 5, "abc"), "Field username cannot be null");
+        assertViolation(engine, account("us", "user@example.com", 5, "abc"), "String length must be at least 3");
+        assertViolation(engine, account("validUser", "invalid", 5, "abc"), "Invalid email address");
+        assertViolation(engine, account("validUser", null, 15, "abc"), "Value must be between 1.00 and 10.00");
+        assertViolation(engine, account("validUser", null, null, 42), "Field type mismatch for field code");
+        assertViolation(engine, account("validUser", null, null, "ABC"), "Value does not match the pattern");
+
+        Class<?> settings = loader.loadClass("sample.Account$Settings");
+        assertViolation(engine, settings.getConstructor(String.class, String.class).newInstance("toolong", null),
+                "Value must be between 2 and 5 characters");
+        assertDoesNotThrow(() -> engine.validate(settings.getConstructor(String.class, String.class)
+                .newInstance("en", "user@example.technology")));
+
+        Class<?> point = loader.loadClass("sample.Point");
+        assertViolation(engine, point.getConstructor(Double.class, Double.class).newInstance(-1.0, 1.0),
+                "Value must be at least 0.0");
+        assertViolation(engine, point.getConstructor(Double.class, Double.class).newInstance(1.0, null),
+                "Field y cannot be null");
+    }
+
+    @Test
+    public void testGeneratesPrimitiveChecks() throws Exception {
+        assertTrue(Files.readString(output.resolve("generated/sample/Account_QuotaValidator.java")).contains("int value0 = (int) F0.get(instance);"));
+
+        Class<?> quota = loader.loadClass("sample.Account$Quota");
+        ValidationEngine engine = new ValidationEngine();
+        assertDoesNotThrow(() -> engine.validate(quota.getConstructor(int.class, long.class).newInstance(0, 1L << 53)));
+        assertViolation(engine, quota.getConstructor(int.class, long.class).newInstance(-1, 0L), "Value must be at least 0.0");
+        assertViolation(engine, quota.getConstructor(int.class, long.class).newInstance(1, (1L << 53) + 1),
+                "Value must be between 0.00 and 9007199254740992.00");
+    }
+
+    @Test
+    public void testRegisteredFactoryDisablesGeneratedValidator() throws Exception {
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(MinLength.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(MinLength annotation) {
+                return new MinLengthConstraint(annotation.value() * 2);
+            }
+
+            @Override
+            public Class<MinLength> getAnnotationType() {
+                return MinLength.class;
+            }
+        });
+        assertNull(processor.getGeneratedValidator(loader.loadClass("sample.Account")),
+                "Generated validator should not be used when one of its annotations is overridden.");
+        assertViolation(new ValidationEngine(processor), account("user", "user@example.com", 5, "abc"),
+                "String length must be at least 6");
+    }
+
+    private static Object account(String username, String email, Integer level, Object code) throws Exception {
+        return loader.loadClass("sample.Account")
+                .getConstructor(String.class, String.class, Integer.class, Object.class)
+                .newInstance(username, email, level, code);
+    }
+
+    private static void assertViolation(ValidationEngine engine, Object instance, String message) {
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class, () -> engine.validate(instance));
+        assertEquals(message, exception.getMessage());
+    }
+}
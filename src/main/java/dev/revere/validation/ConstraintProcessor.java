@@ -1,15 +1,45 @@
 package dev.revere.validation;
 
+import dev.revere.validation.annotations.FutureDate;
 import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.annotations.PastDate;
+import dev.revere.validation.assertions.Assert;
+import dev.revere.validation.compiler.CompiledValidator;
+import dev.revere.validation.compiler.GeneratedValidator;
+import dev.revere.validation.compiler.ValidatorCompiler;
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.TimeSource;
+import dev.revere.validation.constraints.factories.*;
 import dev.revere.validation.exceptions.ConstraintViolationException;
-import org.reflections.Reflections;
+import dev.revere.validation.jfr.PlanBuildEvent;
+import dev.revere.validation.jfr.SlowConstraintEvent;
+import dev.revere.validation.jfr.ValidationEvents;
+import dev.revere.validation.annotations.Valid;
+import dev.revere.validation.plan.CascadeWalk;
+import dev.revere.validation.plan.ElementPlan;
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.ValidationPlan;
+import dev.revere.validation.result.ViolationReport;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * @author Remi
@@ -18,112 +48,1149 @@ import java.util.Set;
  */
 public class ConstraintProcessor {
 
-    private final Map<Class<? extends Annotation>, ConstraintFactory<?>> constraintFactories = new HashMap<>();
+    /**
+     * The default number of interpreted validations of a class after which a dedicated
+     * validator is compiled for it.
+     */
+    public static final int DEFAULT_COMPILATION_THRESHOLD = 10_000;
+
+    private static final byte MET = 0;
+    private static final byte TYPE_MISMATCH = 1;
+    private static final byte VIOLATED = 2;
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private static final System.Logger LOGGER = System.getLogger(ConstraintProcessor.class.getName());
+
+    private static final List<ConstraintFactory<?>> DEFAULT_FACTORIES = List.of(
+            new EmailConstraintFactory(),
+            new FutureDateConstraintFactory(),
+            new MaxLengthConstraintFactory(),
+            new MaxValueConstraintFactory(),
+            new MinLengthConstraintFactory(),
+            new MinValueConstraintFactory(),
+            new NotEmptyConstraintFactory(),
+            new NotNullConstraintFactory(),
+            new PastDateConstraintFactory(),
+            new PatternConstraintFactory(),
+            new RangeConstraintFactory(),
+            new SizeConstraintFactory()
+    );
+
+    private static final ConstraintRegistry BUILT_IN_REGISTRY = builtInRegistry();
+
+    private final AtomicReference<Snapshot> snapshot;
+    private volatile int compilationThreshold = DEFAULT_COMPILATION_THRESHOLD;
 
     public ConstraintProcessor() {
-        registerDefaultFactories();
+        this.snapshot = new AtomicReference<>(new Snapshot(ServiceFactories.registry(), TimeSource.system()));
     }
 
-    @SuppressWarnings("rawtypes")
-    private void registerDefaultFactories() {
-        Reflections reflections = new Reflections("dev.revere.validation.constraints.factories");
-        Set<Class<? extends ConstraintFactory>> factoryClasses = reflections.getSubTypesOf(ConstraintFactory.class);
-        for (Class<? extends ConstraintFactory> factoryClass : factoryClasses) {
-            try {
-                ConstraintFactory<?> factory = factoryClass.getDeclaredConstructor().newInstance();
-                Class<? extends Annotation> annotationType = factory.getAnnotationType();
-                if (annotationType != null) {
-                    constraintFactories.put(annotationType, factory);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to instantiate constraint factory: " + factoryClass.getName(), e);
-            }
+    /**
+     * Builds the registry of the built-in constraint factories from a static table.
+     *
+     * @return The registry of the built-in factories.
+     */
+    private static ConstraintRegistry builtInRegistry() {
+        ConstraintRegistry registry = ConstraintRegistry.empty();
+        for (ConstraintFactory<?> factory : DEFAULT_FACTORIES) {
+            registry = registry.withBuiltIn(factory);
         }
+        return registry;
     }
 
     /**
      * Registers a custom constraint factory for a specific annotation type.
      *
      * <p>Users can extend the library by registering their own constraint factories.
-     * This allows adding new constraints without modifying the core library code.</p>
+     * This allows adding new constraints without modifying the core library code.
+     * Validation plans cached before the registration are discarded and rebuilt on next use,
+     * and generated validators of classes using the annotation are no longer used.</p>
+     *
+     * <p>The registry is copied with the new factory and published atomically together with
+     * empty caches, so registering is safe while other threads validate: they keep using the
+     * registry they started with and never take a lock.</p>
      *
      * @param annotationClass The annotation class associated with the constraint.
      * @param factory         The factory that creates constraints for the given annotation.
      * @param <A>             The type of the annotation.
      */
     public <A extends Annotation> void registerFactory(Class<A> annotationClass, ConstraintFactory<A> factory) {
-        constraintFactories.put(annotationClass, factory);
+        snapshot.updateAndGet(current -> new Snapshot(current.registry.with(annotationClass, factory), current.timeSource));
+    }
+
+    /**
+     * Sets the clock the {@link PastDate} and {@link FutureDate} constraints compare dates with.
+     *
+     * <p>The built-in date factories are replaced with factories sharing one
+     * {@link TimeSource} of the clock, and validation plans cached before are rebuilt on next
+     * use. Factories registered for the date annotations through {@link #registerFactory} are
+     * kept. Validators generated at compile time with date constraints read the system clock,
+     * so they are no longer used once another clock is set.</p>
+     *
+     * @param clock The clock to read the current time from.
+     */
+    public void setClock(Clock clock) {
+        TimeSource timeSource = clock.equals(TimeSource.system().getClock()) ? TimeSource.system() : TimeSource.of(clock);
+        snapshot.updateAndGet(current -> {
+            ConstraintRegistry registry = current.registry;
+            if (registry.getFactory(PastDate.class) instanceof PastDateConstraintFactory) {
+                registry = registry.withBuiltIn(new PastDateConstraintFactory(timeSource));
+            }
+            if (registry.getFactory(FutureDate.class) instanceof FutureDateConstraintFactory) {
+                registry = registry.withBuiltIn(new FutureDateConstraintFactory(timeSource));
+            }
+            return new Snapshot(registry, timeSource);
+        });
+    }
+
+    /**
+     * @return The time source the built-in date constraints read the current time from.
+     */
+    public TimeSource getTimeSource() {
+        return snapshot.get().timeSource;
+    }
+
+    /**
+     * @return The registry snapshot currently used to build validation plans.
+     */
+    public ConstraintRegistry getRegistry() {
+        return snapshot.get().registry;
+    }
+
+    /**
+     * Sets the number of interpreted validations of a class after which a dedicated validator
+     * is compiled for it.
+     *
+     * <p>A threshold of 0 compiles a class on its first validation, a negative threshold
+     * disables compilation so that every class is always interpreted.</p>
+     *
+     * @param compilationThreshold The number of interpreted validations before compiling.
+     */
+    public void setCompilationThreshold(int compilationThreshold) {
+        this.compilationThreshold = compilationThreshold;
     }
 
     /**
      * Applies constraints to the fields of the given object instance.
      *
-     * <p>This method iterates over all fields of the object, checks for annotations,
-     * and applies the appropriate constraints. If a field's value does not meet the
+     * <p>If a validator was generated for the object's class at compile time, it is used
+     * directly. Otherwise this method walks the cached {@link ValidationPlan} of the object's
+     * class and applies the resolved constraints to each constrained field. Once a class has
+     * been validated more often than the compilation threshold, its plan is compiled into a
+     * {@link CompiledValidator} that is used instead. If a field's value does not meet the
      * constraint criteria, a {@link ConstraintViolationException} is thrown.</p>
      *
+     * <p>Validation then cascades into the objects reached through fields annotated with
+     * {@link Valid}, walking the object graph iteratively and visiting each object once.</p>
+     *
      * @param instance The object instance to validate.
      * @throws ConstraintViolationException If a field's value violates a constraint.
      * @throws IllegalAccessException       If there is an error accessing a field's value.
      */
     public <T> void applyConstraints(T instance) throws ConstraintViolationException, IllegalAccessException {
-        Field[] fields = instance.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            field.setAccessible(true);
+        Snapshot current = snapshot.get();
+        boolean timed = ValidationEvents.isConstraintTimingEnabled();
+        CompiledValidator generatedValidator = timed ? null : current.generatedValidators.get(instance.getClass());
+        if (generatedValidator != null) {
+            generatedValidator.validate(instance);
+            return;
+        }
+
+        ValidationPlan plan = current.plans.get(instance.getClass());
+        applyOwnConstraints(plan, instance);
+        if (!plan.hasCascades()) {
+            return;
+        }
+
+        CascadeWalk walk = new CascadeWalk(instance);
+        walk.descend(plan, instance);
+        applyCascadedConstraints(current, walk, timed);
+    }
+
+    /**
+     * Applies the constraints of the values passed to the canonical constructor of a record,
+     * before the record exists, so that a compact constructor can reject them:
+     *
+     * <pre>{@code
+     * record Sku(@NotEmpty String code, @MinValue(0) int stock) {
+     *     Sku {
+     *         processor.applyComponentConstraints(Sku.class, code, stock);
+     *     }
+     * }
+     * }</pre>
+     *
+     * <p>The values are checked against the plan of the record as by {@link #applyConstraints},
+     * and validation cascades into the values of components annotated with {@link Valid}.</p>
+     *
+     * @param type       The record class.
+     * @param components The value of every component of the record, in declaration order.
+     * @throws ConstraintViolationException If a value violates a constraint.
+     * @throws IllegalArgumentException     If the number of values is not the number of components.
+     */
+    public <R extends Record> void applyComponentConstraints(Class<R> type, Object... components) throws ConstraintViolationException {
+        Snapshot current = snapshot.get();
+        ValidationPlan plan = current.plans.get(type);
+        Assert.isTrue(components.length == plan.getComponentCount(),
+                "Record " + type.getName() + " has " + plan.getComponentCount() + " components, not " + components.length);
+
+        FieldPlan[] fields = plan.getFields();
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan field = fields[i];
+            Object value = components[plan.getComponentIndex(i)];
+            if (field.isPrimitive()) {
+                for (int j = 0; j < field.getConstraintCount(); j++) {
+                    validateFieldValue(field, value, j);
+                }
+            } else {
+                validateFieldConstraints(field, value);
+            }
+        }
+        if (!plan.hasCascades()) {
+            return;
+        }
+
+        CascadeWalk walk = new CascadeWalk();
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].isCascaded()) {
+                walk.queue(fields[i], components[plan.getComponentIndex(i)]);
+            }
+        }
+        applyCascadedConstraints(current, walk, ValidationEvents.isConstraintTimingEnabled());
+    }
+
+    private void applyCascadedConstraints(Snapshot current, CascadeWalk walk, boolean timed) throws ConstraintViolationException {
+        for (Object value = walk.next(); value != null; value = walk.next()) {
+            CompiledValidator nestedValidator = timed ? null : current.generatedValidators.get(value.getClass());
+            if (nestedValidator != null) {
+                nestedValidator.validate(value);
+                continue;
+            }
+
+            ValidationPlan nestedPlan = current.plans.get(value.getClass());
+            applyOwnConstraints(nestedPlan, value);
+            walk.descend(nestedPlan, value);
+        }
+    }
+
+    /**
+     * Applies the constraints of an object's own fields, through the compiled validator of its
+     * plan once there is one. While constraints are timed for the {@link SlowConstraintEvent},
+     * the plan is always interpreted.
+     *
+     * @param plan     The plan of the instance's class.
+     * @param instance The object instance to validate.
+     * @throws ConstraintViolationException If a field's value violates a constraint.
+     */
+    private void applyOwnConstraints(ValidationPlan plan, Object instance) throws ConstraintViolationException {
+        if (ValidationEvents.isConstraintTimingEnabled()) {
+            applyInterpretedConstraints(plan, instance);
+            return;
+        }
+
+        CompiledValidator compiledValidator = plan.getCompiledValidator();
+        if (compiledValidator != null) {
+            compiledValidator.validate(instance);
+            return;
+        }
+
+        int threshold = compilationThreshold;
+        if (threshold >= 0 && !plan.isCompilationAttempted() && plan.recordInvocation() > threshold) {
+            compiledValidator = compile(plan);
+            if (compiledValidator != null) {
+                compiledValidator.validate(instance);
+                return;
+            }
+        }
+        applyInterpretedConstraints(plan, instance);
+    }
+
+    private void applyInterpretedConstraints(ValidationPlan plan, Object instance) throws ConstraintViolationException {
+        for (FieldPlan field : plan.getFields()) {
+            if (field.isPrimitive()) {
+                validatePrimitiveConstraints(field, instance);
+                continue;
+            }
             Object value = field.get(instance);
             validateFieldConstraints(field, value);
         }
     }
 
     /**
-     * Validates constraints on a specific field of an object.
+     * Collects every constraint violation of the given object instance into a report.
      *
-     * <p>This method checks all annotations on the field, retrieves the associated
-     * constraint factory, creates a constraint, and then validates the field's value
-     * against this constraint.</p>
+     * <p>Unlike {@link #applyConstraints}, this method does not stop at the first violation and
+     * does not throw. Every constrained field is checked: a null field annotated with
+     * {@link NotNull} is reported once, and every other constraint the value does not meet is
+     * reported with the value, so that its message can be built later. Violations of the
+     * objects reached through fields annotated with {@link Valid} follow those of the instance,
+     * with their property path such as {@code items[3].sku}.</p>
      *
-     * @param field The field to validate.
-     * @param value The value of the field.
-     * @throws ConstraintViolationException If the field's value does not meet the constraint.
+     * @param instance The object instance to validate.
+     * @param report   The report to add the violations to.
      */
-    private void validateFieldConstraints(Field field, Object value) throws ConstraintViolationException {
-        for (Annotation annotation : field.getAnnotations()) {
-            ConstraintFactory<?> factory = constraintFactories.get(annotation.annotationType());
-            if (factory == null) {
+    public <T> void collectViolations(T instance, ViolationReport report) {
+        collectViolations(getPlan(instance.getClass()), instance, report);
+    }
+
+    /**
+     * Collects every constraint violation of the given object instance into a report, using a
+     * plan the caller has already resolved, for example once for a whole batch of instances.
+     *
+     * @param plan     The plan of the instance's class.
+     * @param instance The object instance to validate.
+     * @param report   The report to add the violations to.
+     * @see #collectViolations(Object, ViolationReport)
+     */
+    public <T> void collectViolations(ValidationPlan plan, T instance, ViolationReport report) {
+        collectOwnViolations(plan, instance, report);
+        if (plan.hasCascades()) {
+            collectCascadedViolations(plan, instance, report);
+        }
+    }
+
+    /**
+     * Collects the violations of the objects reached through the cascaded fields of an
+     * instance, with the path of each object as the prefix of its violations.
+     */
+    private void collectCascadedViolations(ValidationPlan plan, Object instance, ViolationReport report) {
+        CascadeWalk walk = new CascadeWalk(instance);
+        walk.descend(plan, instance);
+        collectWalkedViolations(walk, report);
+    }
+
+    /**
+     * Collects the violations of every object of a walk whose roots are already queued, with
+     * the path of each object as the prefix of its violations.
+     */
+    private void collectWalkedViolations(CascadeWalk walk, ViolationReport report) {
+        try {
+            for (Object value = walk.next(); value != null; value = walk.next()) {
+                ValidationPlan nestedPlan = getPlan(value.getClass());
+                report.setPathPrefix(walk.getPath());
+                collectOwnViolations(nestedPlan, value, report);
+                walk.descend(nestedPlan, value);
+            }
+        } finally {
+            report.setPathPrefix(null);
+        }
+    }
+
+    private void collectOwnViolations(ValidationPlan plan, Object instance, ViolationReport report) {
+        for (FieldPlan field : plan.getFields()) {
+            collectFieldViolations(field, instance, report);
+        }
+    }
+
+    /**
+     * Collects the violations of the given fields of an object instance into a report.
+     *
+     * <p>Only the constraints of the selected fields are checked, in declaration order, and
+     * validation cascades only into the selected fields annotated with {@link Valid}. The
+     * violations are the ones {@link #collectViolations(Object, ViolationReport)} reports for
+     * those fields.</p>
+     *
+     * @param plan         The plan of the instance's class.
+     * @param instance     The object instance to validate.
+     * @param fieldIndexes The indexes of the fields in the plan, as returned by {@link ValidationPlan#getFieldIndexes}.
+     * @param report       The report to add the violations to.
+     */
+    public <T> void collectFieldViolations(ValidationPlan plan, T instance, int[] fieldIndexes, ViolationReport report) {
+        FieldPlan[] fields = plan.getFields();
+        CascadeWalk walk = null;
+        for (int index : fieldIndexes) {
+            FieldPlan field = fields[index];
+            collectFieldViolations(field, instance, report);
+            if (field.isCascaded()) {
+                walk = walk == null ? new CascadeWalk(instance) : walk;
+                walk.descend(field, instance);
+            }
+        }
+        if (walk != null) {
+            collectWalkedViolations(walk, report);
+        }
+    }
+
+    /**
+     * Collects the violations of the fields whose value differs between two instances of the
+     * same class, comparing each field as {@link FieldPlan#isUnchanged} does.
+     *
+     * <p>Fields with the same value in both instances are neither checked nor cascaded into,
+     * so the cost follows the number of changed fields. The previous instance is assumed to
+     * have been validated already.</p>
+     *
+     * @param plan     The plan of the instances' class.
+     * @param previous The earlier instance.
+     * @param current  The instance to validate.
+     * @param report   The report to add the violations of the changed fields to.
+     */
+    public <T> void collectChangedViolations(ValidationPlan plan, T previous, T current, ViolationReport report) {
+        CascadeWalk walk = null;
+        for (FieldPlan field : plan.getFields()) {
+            if (field.isUnchanged(previous, current)) {
                 continue;
             }
+            collectFieldViolations(field, current, report);
+            if (field.isCascaded()) {
+                walk = walk == null ? new CascadeWalk(current) : walk;
+                walk.descend(field, current);
+            }
+        }
+        if (walk != null) {
+            collectWalkedViolations(walk, report);
+        }
+    }
+
+    private void collectFieldViolations(FieldPlan field, Object instance, ViolationReport report) {
+        if (field.isPrimitive()) {
+            collectPrimitiveViolations(field, instance, report);
+            return;
+        }
+        Object value = field.get(instance);
+        if (value == null) {
+            if (field.isNotNull()) {
+                report.addNullValue(field);
+            }
+            return;
+        }
+
+        if (!field.isFastValid(value)) {
+            for (int i = 0; i < field.getConstraintCount(); i++) {
+                if (!isCompatible(field, value, i)) {
+                    report.addTypeMismatch(field, i, value);
+                } else if (!isConstraintMet(field, value, i)) {
+                    report.addViolation(field, i, value);
+                }
+            }
+        }
+        for (ElementPlan elements : field.getElements()) {
+            collectElementViolations(field, elements, value, report);
+        }
+    }
 
-            Constraint<?> constraint = createConstraint(annotation);
-            validateFieldValue(field, value, constraint);
+    /**
+     * Collects the violations of a primitive field, reading its value boxed only to report
+     * a violation.
+     */
+    private void collectPrimitiveViolations(FieldPlan field, Object instance, ViolationReport report) {
+        for (int i = 0; i < field.getConstraintCount(); i++) {
+            if (field.isPrimitiveValid(instance, i)) {
+                continue;
+            }
+            if (field.isMismatched(i)) {
+                report.addTypeMismatch(field, i, field.get(instance));
+            } else {
+                report.addViolation(field, i, field.get(instance));
+            }
         }
     }
 
     /**
-     * Validates a field's value against a given constraint.
+     * Collects the violations of the elements of a container field's value, in element order.
      *
-     * <p>This method checks if the field's value matches the constraint type and applies
-     * the constraint validation. If the value is null and the field has a {@link NotNull}
-     * annotation, a {@link ConstraintViolationException} is thrown.</p>
+     * <p>The elements are first checked without boxing; only a container with at least one
+     * violation is walked element by element. A type mismatch on the elements of a primitive
+     * array is reported once, for the first element.</p>
+     *
+     * @param field     The plan of the container field.
+     * @param elements  The element constraints to check.
+     * @param container The non-null value of the field.
+     * @param report    The report to add the violations to.
+     */
+    private void collectElementViolations(FieldPlan field, ElementPlan elements, Object container, ViolationReport report) {
+        if (elements.isValid(container)) {
+            return;
+        }
+
+        int notNullIndex = elements.getNotNullIndex();
+        boolean[] mismatchReported = new boolean[elements.getConstraintCount()];
+        elements.forEach(container, (key, element) -> {
+            if (element == null) {
+                if (notNullIndex >= 0) {
+                    report.addElementNullValue(field, elements.getFirstIndex() + notNullIndex, key);
+                }
+                return;
+            }
+
+            for (int i = 0; i < elements.getConstraintCount(); i++) {
+                if (i == notNullIndex) {
+                    continue;
+                }
+                int index = elements.getFirstIndex() + i;
+                if (!elements.isCompatible(element, i)) {
+                    if (!mismatchReported[i]) {
+                        report.addElementTypeMismatch(field, index, key, element);
+                        mismatchReported[i] = elements.isPrimitiveArray();
+                    }
+                } else if (!elements.isValid(element, i)) {
+                    report.addElementViolation(field, index, key, elements.toReportedValue(element, i));
+                }
+            }
+        });
+    }
+
+    /**
+     * Collects every constraint violation of the given object instance into a new report,
+     * checking {@link Constraint#isBlocking() blocking} constraints on the given executor.
+     *
+     * <p>Fields are read and non-blocking constraints are checked on the calling thread. Each
+     * blocking constraint is submitted to the executor as its own task, so the lookups of
+     * different fields run concurrently. The report lists the violations in the same order as
+     * {@link #collectViolations(Object, ViolationReport)}. Objects reached through
+     * {@link Valid} fields are checked once the blocking constraints are done, on the thread
+     * that completes the future.</p>
+     *
+     * @param instance         The object instance to validate.
+     * @param blockingExecutor The executor to check blocking constraints on.
+     * @return A future completed with the report once every blocking constraint was checked,
+     * or completed exceptionally if one of them failed.
+     */
+    public <T> CompletableFuture<ViolationReport> collectViolationsAsync(T instance, Executor blockingExecutor) {
+        ValidationPlan plan = getPlan(instance.getClass());
+        FieldPlan[] fields = plan.getFields();
+        Object[] values = new Object[fields.length];
+        byte[] outcomes = new byte[plan.getConstraintCount()];
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int f = 0; f < fields.length; f++) {
+            FieldPlan field = fields[f];
+            Object value = field.get(instance);
+            values[f] = value;
+            if (value == null) {
+                continue;
+            }
+
+            for (int i = 0; i < field.getConstraintCount(); i++) {
+                int slot = field.getSlot(i);
+                int index = i;
+                if (!isCompatible(field, value, i)) {
+                    outcomes[slot] = TYPE_MISMATCH;
+                } else if (field.getConstraint(i).isBlocking()) {
+                    pending.add(CompletableFuture.runAsync(() -> {
+                        if (!isConstraintMet(field, value, index)) {
+                            outcomes[slot] = VIOLATED;
+                        }
+                    }, blockingExecutor));
+                } else if (!isConstraintMet(field, value, i)) {
+                    outcomes[slot] = VIOLATED;
+                }
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(toReport(plan, instance, values, outcomes));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> toReport(plan, instance, values, outcomes));
+    }
+
+    /**
+     * Builds a report from the outcome of every constraint slot of a plan, followed by the
+     * violations of the cascaded objects, which are checked on the current thread.
+     */
+    private ViolationReport toReport(ValidationPlan plan, Object instance, Object[] values, byte[] outcomes) {
+        FieldPlan[] fields = plan.getFields();
+        ViolationReport report = new ViolationReport();
+        for (int f = 0; f < fields.length; f++) {
+            FieldPlan field = fields[f];
+            if (values[f] == null) {
+                if (field.isNotNull()) {
+                    report.addNullValue(field);
+                }
+                continue;
+            }
+
+            for (int i = 0; i < field.getConstraintCount(); i++) {
+                byte outcome = outcomes[field.getSlot(i)];
+                if (outcome == TYPE_MISMATCH) {
+                    report.addTypeMismatch(field, i, values[f]);
+                } else if (outcome == VIOLATED) {
+                    report.addViolation(field, i, values[f]);
+                }
+            }
+            for (ElementPlan elements : field.getElements()) {
+                collectElementViolations(field, elements, values[f], report);
+            }
+        }
+        if (plan.hasCascades()) {
+            collectCascadedViolations(plan, instance, report);
+        }
+        return report;
+    }
+
+    /**
+     * Checks whether the given object instance meets all of its constraints.
+     *
+     * <p>This method stops at the first violation and neither throws nor allocates.</p>
+     *
+     * @param instance The object instance to validate.
+     * @return True if every constraint is met.
+     */
+    public <T> boolean isValid(T instance) {
+        ValidationPlan plan = getPlan(instance.getClass());
+        if (!isOwnValid(plan, instance)) {
+            return false;
+        }
+        if (!plan.hasCascades()) {
+            return true;
+        }
+
+        CascadeWalk walk = new CascadeWalk(instance);
+        walk.descend(plan, instance);
+        for (Object value = walk.next(); value != null; value = walk.next()) {
+            ValidationPlan nestedPlan = getPlan(value.getClass());
+            if (!isOwnValid(nestedPlan, value)) {
+                return false;
+            }
+            walk.descend(nestedPlan, value);
+        }
+        return true;
+    }
+
+    private boolean isOwnValid(ValidationPlan plan, Object instance) {
+        for (FieldPlan field : plan.getFields()) {
+            if (field.isPrimitive()) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!field.isPrimitiveValid(instance, i)) {
+                        return false;
+                    }
+                }
+                continue;
+            }
+            Object value = field.get(instance);
+            if (value == null) {
+                if (field.isNotNull()) {
+                    return false;
+                }
+                continue;
+            }
+
+            if (!field.isFastValid(value)) {
+                return false;
+            }
+            for (ElementPlan elements : field.getElements()) {
+                if (!elements.isValid(value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes which constraint slots of the object's plan are violated.
+     *
+     * <p>Bit {@code n} of the result is set if the constraint in slot {@code n} (see
+     * {@link FieldPlan#getSlot}) is violated. A null field annotated with {@link NotNull} sets
+     * the slot of its {@code NotNull} constraint. Only the object's own fields are checked;
+     * validation does not cascade into {@link Valid} fields.</p>
+     *
+     * @param instance The object instance to validate.
+     * @param failures The bit set to set the violated slots in; it is not cleared first.
+     */
+    public <T> void collectFailures(T instance, BitSet failures) {
+        for (FieldPlan field : getPlan(instance.getClass()).getFields()) {
+            if (field.isPrimitive()) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!field.isPrimitiveValid(instance, i)) {
+                        failures.set(field.getSlot(i));
+                    }
+                }
+                continue;
+            }
+            Object value = field.get(instance);
+            if (value == null) {
+                if (field.isNotNull()) {
+                    failures.set(field.getSlot(field.getNotNullIndex()));
+                }
+                continue;
+            }
+
+            if (!field.isFastValid(value)) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!isCompatible(field, value, i) || !isConstraintMet(field, value, i)) {
+                        failures.set(field.getSlot(i));
+                    }
+                }
+            }
+            for (ElementPlan elements : field.getElements()) {
+                for (int i = 0; i < elements.getConstraintCount(); i++) {
+                    if (!elements.isMet(value, i)) {
+                        failures.set(field.getSlot(elements.getFirstIndex() + i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes which constraint slots of the object's plan are violated, as a bit mask.
+     *
+     * @param instance The object instance to validate.
+     * @return The mask of violated slots.
+     * @throws IllegalArgumentException If the object's plan has more than 64 constraint slots.
+     * @see #collectFailures(Object, BitSet)
+     */
+    public <T> long failureMask(T instance) {
+        ValidationPlan plan = getPlan(instance.getClass());
+        if (plan.getConstraintCount() > Long.SIZE) {
+            throw new IllegalArgumentException("Class " + plan.getType().getName() + " has " + plan.getConstraintCount()
+                    + " constraints, which do not fit in a long mask");
+        }
+
+        long mask = 0L;
+        for (FieldPlan field : plan.getFields()) {
+            if (field.isPrimitive()) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!field.isPrimitiveValid(instance, i)) {
+                        mask |= 1L << field.getSlot(i);
+                    }
+                }
+                continue;
+            }
+            Object value = field.get(instance);
+            if (value == null) {
+                if (field.isNotNull()) {
+                    mask |= 1L << field.getSlot(field.getNotNullIndex());
+                }
+                continue;
+            }
+
+            if (!field.isFastValid(value)) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!isCompatible(field, value, i) || !isConstraintMet(field, value, i)) {
+                        mask |= 1L << field.getSlot(i);
+                    }
+                }
+            }
+            for (ElementPlan elements : field.getElements()) {
+                for (int i = 0; i < elements.getConstraintCount(); i++) {
+                    if (!elements.isMet(value, i)) {
+                        mask |= 1L << field.getSlot(elements.getFirstIndex() + i);
+                    }
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Finds the first violated constraint slot of the object's own fields, in slot order,
+     * which is where fail-fast validation stops. Validation does not cascade into
+     * {@link Valid} fields.
+     *
+     * @param plan     The plan of the instance's class.
+     * @param instance The object instance to validate.
+     * @return The slot of the first violated constraint, or -1 if every constraint of the
+     * object's own fields is met.
+     */
+    public <T> int firstFailure(ValidationPlan plan, T instance) {
+        for (FieldPlan field : plan.getFields()) {
+            if (field.isPrimitive()) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!field.isPrimitiveValid(instance, i)) {
+                        return field.getSlot(i);
+                    }
+                }
+                continue;
+            }
+            Object value = field.get(instance);
+            if (value == null) {
+                if (field.isNotNull()) {
+                    return field.getSlot(field.getNotNullIndex());
+                }
+                continue;
+            }
+
+            if (!field.isFastValid(value)) {
+                for (int i = 0; i < field.getConstraintCount(); i++) {
+                    if (!isCompatible(field, value, i) || !isConstraintMet(field, value, i)) {
+                        return field.getSlot(i);
+                    }
+                }
+            }
+            for (ElementPlan elements : field.getElements()) {
+                for (int i = 0; i < elements.getConstraintCount(); i++) {
+                    if (!elements.isMet(value, i)) {
+                        return field.getSlot(elements.getFirstIndex() + i);
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a non-null field value has the type the constraint at the given index accepts.
+     */
+    private boolean isCompatible(FieldPlan field, Object value, int index) {
+        if (field.isPrimitive()) {
+            return !field.isMismatched(index);
+        }
+        return !field.requiresTypeCheck(index) || field.getConstraint(index).getType().isInstance(value);
+    }
+
+    /**
+     * Checks a compatible field value against the constraint at the given index without throwing.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean isConstraintMet(FieldPlan field, Object value, int index) {
+        return ((Constraint<Object>) field.getConstraint(index)).isValid(value);
+    }
+
+    /**
+     * Compiles a plan once, even when several threads cross the threshold at the same time.
+     *
+     * <p>Plans with element constraints are not compiled: their cost is dominated by the
+     * element loops, which the interpreter already runs without boxing.</p>
+     *
+     * <p>Compilation only makes validation faster, so it never changes its outcome: if the
+     * validator cannot be generated, defined or instantiated, the failure is logged and
+     * recorded in the {@link PlanBuildEvent}, and the plan stays interpreted.</p>
+     *
+     * @param plan The plan to compile.
+     * @return The compiled validator, or null if the plan stays interpreted.
+     */
+    private CompiledValidator compile(ValidationPlan plan) {
+        synchronized (plan) {
+            if (!plan.isCompilationAttempted()) {
+                PlanBuildEvent event = new PlanBuildEvent();
+                event.begin();
+                CompiledValidator compiledValidator = null;
+                Throwable failure = null;
+                try {
+                    compiledValidator = plan.isEmpty() || plan.hasElementConstraints() ? null : ValidatorCompiler.compile(plan);
+                } catch (RuntimeException | LinkageError e) {
+                    failure = e;
+                    LOGGER.log(System.Logger.Level.WARNING, "Cannot compile the validation plan of "
+                            + plan.getType().getName() + ", it stays interpreted", e);
+                }
+                plan.setCompiledValidator(compiledValidator);
+                event.finish(plan, true, failure);
+            }
+            return plan.getCompiledValidator();
+        }
+    }
+
+    /**
+     * Returns the validator generated at compile time for the given class.
      *
-     * @param field      The field to validate.
-     * @param value      The value of the field.
-     * @param constraint The constraint to apply.
-     * @throws ConstraintViolationException If the field's value does not meet the constraint or if the field is null when it shouldn't be.
+     * @param type The class to get the generated validator for.
+     * @return The generated validator, or null if there is none or it cannot be used.
+     */
+    public CompiledValidator getGeneratedValidator(Class<?> type) {
+        return snapshot.get().generatedValidators.get(type);
+    }
+
+    /**
+     * Looks up the validator generated at compile time for a class.
+     *
+     * <p>The generated validator of {@code com.example.Outer$Inner} is named
+     * {@code com.example.Outer_InnerValidator}. It is only used if it is marked with
+     * {@link GeneratedValidator} for the class and none of the annotations it was generated
+     * for has a factory registered through {@link #registerFactory}. Classes with {@link Valid}
+     * fields are validated through their plan, which cascades into those fields, and so are
+     * classes with date constraints once a clock other than the system clock is set.</p>
+     *
+     * @param registry   The registry the validator is looked up for.
+     * @param timeSource The time source of the date constraints.
+     * @param type       The class to look up the generated validator for.
+     * @return The generated validator, or null if there is none or it cannot be used.
+     */
+    private CompiledValidator findGeneratedValidator(ConstraintRegistry registry, TimeSource timeSource, Class<?> type) {
+        String packageName = type.getPackageName();
+        String simpleName = type.getName().substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_');
+        String validatorName = (packageName.isEmpty() ? "" : packageName + ".") + simpleName + "Validator";
+        try {
+            Class<?> validatorClass = Class.forName(validatorName, true, type.getClassLoader());
+            GeneratedValidator marker = validatorClass.getAnnotation(GeneratedValidator.class);
+            if (marker == null || marker.value() != type || !CompiledValidator.class.isAssignableFrom(validatorClass)) {
+                return null;
+            }
+
+            for (String annotationName : marker.annotations()) {
+                if (registry.isRegistered(annotationName) || annotationName.equals(Valid.class.getName())) {
+                    return null;
+                }
+                if (timeSource != TimeSource.system()
+                        && (annotationName.equals(PastDate.class.getName()) || annotationName.equals(FutureDate.class.getName()))) {
+                    return null;
+                }
+            }
+            return (CompiledValidator) validatorClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to instantiate generated validator: " + validatorName, e);
+        }
+    }
+
+    /**
+     * Returns the validation plan for the given class.
+     *
+     * <p>The plan is built on first use and cached per class, so repeated validations of the
+     * same type do not repeat any reflection or constraint creation.</p>
+     *
+     * @param type The class to get the plan for.
+     * @return The validation plan of the class.
+     */
+    public ValidationPlan getPlan(Class<?> type) {
+        return snapshot.get().plans.get(type);
+    }
+
+    /**
+     * Builds the validation plan for a class.
+     *
+     * <p>This method checks all annotations on the declared fields of the class, resolves a
+     * constraint for every annotation that has a registered factory and resolves a
+     * {@link dev.revere.validation.plan.FieldAccessor} for every constrained field. Fields
+     * without constraints are left out of the plan, unless they are annotated with
+     * {@link Valid}.</p>
+     *
+     * <p>A record is planned from its {@link Class#getRecordComponents() components}, in
+     * component order, with the annotations of each component and of the field storing it.
+     * Its values are read through the accessor of each component.</p>
+     *
+     * <p>Annotations on the type arguments of {@link Iterable} and {@link Map} fields and on the
+     * component type of array fields, as in {@code List<@NotEmpty String>} or
+     * {@code @MaxValue(100) int[]}, become constraints on the elements. As an annotation written
+     * before an array type applies to both the field and the component type, such annotations
+     * only constrain the elements, except {@link NotNull}, which constrains the field.</p>
+     *
+     * @param registry The registry to resolve constraints from.
+     * @param type     The class to build the plan for.
+     * @return The validation plan of the class.
      */
     @SuppressWarnings("unchecked")
-    private void validateFieldValue(Field field, Object value, Constraint<?> constraint) throws ConstraintViolationException {
+    private ValidationPlan buildPlan(ConstraintRegistry registry, Class<?> type) {
+        List<FieldPlan> fieldPlans = new ArrayList<>();
+        int slot = 0;
+        RecordComponent[] components = type.getRecordComponents();
+        Field[] declaredFields = components == null ? type.getDeclaredFields() : componentFields(type, components);
+        for (int f = 0; f < declaredFields.length; f++) {
+            Field field = declaredFields[f];
+            Annotation[] annotations = components == null ? field.getAnnotations() : componentAnnotations(components[f], field);
+            Annotation[] componentAnnotations = field.getAnnotatedType() instanceof AnnotatedArrayType array
+                    ? array.getAnnotatedGenericComponentType().getAnnotations()
+                    : NO_ANNOTATIONS;
+            List<Constraint<?>> constraints = new ArrayList<>(annotations.length);
+            List<Class<? extends Annotation>> annotationTypes = new ArrayList<>(annotations.length);
+            for (Annotation annotation : annotations) {
+                if (!registry.hasFactory(annotation.annotationType()) || isElementAnnotation(componentAnnotations, annotation)) {
+                    continue;
+                }
+                constraints.add(createConstraint(registry, annotation));
+                annotationTypes.add(annotation.annotationType());
+            }
+            ElementPlan[] elements = buildElementPlans(registry, field, componentAnnotations, constraints, annotationTypes);
+
+            boolean cascaded = !field.getType().isPrimitive() && field.isAnnotationPresent(Valid.class);
+            if (constraints.isEmpty() && !cascaded) {
+                continue;
+            }
+
+            fieldPlans.add(new FieldPlan(field,
+                    constraints.toArray(new Constraint<?>[0]),
+                    annotationTypes.toArray(new Class[0]),
+                    isNotNullAnnotation(annotations),
+                    slot,
+                    cascaded,
+                    elements));
+            slot += constraints.size();
+        }
+        return new ValidationPlan(type, fieldPlans.toArray(new FieldPlan[0]));
+    }
+
+    /**
+     * @return The private fields storing the components of a record, in component order.
+     */
+    private static Field[] componentFields(Class<?> type, RecordComponent[] components) {
+        Field[] fields = new Field[components.length];
+        for (int i = 0; i < components.length; i++) {
+            try {
+                fields[i] = type.getDeclaredField(components[i].getName());
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("Record " + type.getName() + " has no field for component " + components[i].getName(), e);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Merges the annotations of a record component with those of the field storing it. An
+     * annotation on a component is only propagated to the places its target allows, so a
+     * constraint targeting record components but not fields is only found on the component.
+     */
+    private static Annotation[] componentAnnotations(RecordComponent component, Field field) {
+        Annotation[] fieldAnnotations = field.getAnnotations();
+        List<Annotation> annotations = new ArrayList<>(List.of(fieldAnnotations));
+        for (Annotation annotation : component.getAnnotations()) {
+            if (!field.isAnnotationPresent(annotation.annotationType())) {
+                annotations.add(annotation);
+            }
+        }
+        return annotations.size() == fieldAnnotations.length ? fieldAnnotations : annotations.toArray(new Annotation[0]);
+    }
+
+    /**
+     * Resolves the element constraints of a field, appending them to the field's constraints.
+     *
+     * @param registry             The registry to resolve constraints from.
+     * @param field                The field.
+     * @param componentAnnotations The annotations on the component type, if the field is an array.
+     * @param constraints          The constraints of the field, to append the element constraints to.
+     * @param annotationTypes      The annotation types of the field's constraints.
+     * @return The element plans of the field, empty if it has no element constraints.
+     */
+    private ElementPlan[] buildElementPlans(ConstraintRegistry registry, Field field, Annotation[] componentAnnotations,
+                                            List<Constraint<?>> constraints, List<Class<? extends Annotation>> annotationTypes) {
+        List<ElementPlan> elements = new ArrayList<>(2);
+        Class<?> fieldType = field.getType();
+        if (fieldType.isArray()) {
+            Class<?> component = fieldType.getComponentType();
+            ElementPlan.Kind kind = component == int.class ? ElementPlan.Kind.INT_ARRAY
+                    : component == long.class ? ElementPlan.Kind.LONG_ARRAY
+                    : component == double.class ? ElementPlan.Kind.DOUBLE_ARRAY
+                    : ElementPlan.Kind.ARRAY;
+            Class<?> elementType = MethodType.methodType(component).wrap().returnType();
+            addElementPlan(registry, kind, elementType, componentAnnotations, true, elements, constraints, annotationTypes);
+        } else if (field.getAnnotatedType() instanceof AnnotatedParameterizedType parameterized) {
+            AnnotatedType[] arguments = parameterized.getAnnotatedActualTypeArguments();
+            if (Map.class.isAssignableFrom(fieldType) && arguments.length == 2) {
+                addElementPlan(registry, ElementPlan.Kind.MAP_KEYS, erasure(arguments[0].getType()), arguments[0].getAnnotations(), false,
+                        elements, constraints, annotationTypes);
+                addElementPlan(registry, ElementPlan.Kind.MAP_VALUES, erasure(arguments[1].getType()), arguments[1].getAnnotations(), false,
+                        elements, constraints, annotationTypes);
+            } else if (Iterable.class.isAssignableFrom(fieldType) && arguments.length == 1) {
+                addElementPlan(registry, ElementPlan.Kind.ITERABLE, erasure(arguments[0].getType()), arguments[0].getAnnotations(), false,
+                        elements, constraints, annotationTypes);
+            }
+        }
+        return elements.toArray(new ElementPlan[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addElementPlan(ConstraintRegistry registry, ElementPlan.Kind kind, Class<?> elementType, Annotation[] annotations,
+                                boolean array, List<ElementPlan> elements, List<Constraint<?>> constraints,
+                                List<Class<? extends Annotation>> annotationTypes) {
+        List<Constraint<?>> elementConstraints = new ArrayList<>(annotations.length);
+        List<Class<? extends Annotation>> elementAnnotationTypes = new ArrayList<>(annotations.length);
+        for (Annotation annotation : annotations) {
+            if (!registry.hasFactory(annotation.annotationType()) || array && annotation.annotationType() == NotNull.class) {
+                continue;
+            }
+            elementConstraints.add(createConstraint(registry, annotation));
+            elementAnnotationTypes.add(annotation.annotationType());
+        }
+        if (elementConstraints.isEmpty()) {
+            return;
+        }
+
+        elements.add(new ElementPlan(kind, elementType,
+                elementConstraints.toArray(new Constraint<?>[0]),
+                elementAnnotationTypes.toArray(new Class[0]),
+                constraints.size()));
+        constraints.addAll(elementConstraints);
+        annotationTypes.addAll(elementAnnotationTypes);
+    }
+
+    /**
+     * Checks if a declaration annotation of an array field also applies to its component type,
+     * which makes it a constraint on the elements rather than on the array.
+     */
+    private boolean isElementAnnotation(Annotation[] componentAnnotations, Annotation annotation) {
+        if (annotation.annotationType() == NotNull.class) {
+            return false;
+        }
+        for (Annotation componentAnnotation : componentAnnotations) {
+            if (componentAnnotation.annotationType() == annotation.annotationType()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> erasure(Type type) {
+        if (type instanceof Class<?> rawType) {
+            return rawType;
+        }
+        if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        }
+        return Object.class;
+    }
+
+    /**
+     * Validates the constraints of a specific field of an object.
+     *
+     * <p>This method applies every constraint resolved in the field's plan to the field's value.
+     * If the value is null and the field has a {@link NotNull} annotation, a
+     * {@link ConstraintViolationException} is thrown; otherwise a null value is skipped.</p>
+     *
+     * <p>A value that passes the {@link dev.revere.validation.plan.FusedCheck} of the field is
+     * not checked again; otherwise the constraints are applied one by one in declaration order,
+     * so that the first violation is thrown.</p>
+     *
+     * @param field The plan of the field to validate.
+     * @param value The value of the field.
+     * @throws ConstraintViolationException If the field's value does not meet a constraint or if the field is null when it shouldn't be.
+     */
+    private void validateFieldConstraints(FieldPlan field, Object value) throws ConstraintViolationException {
         if (value == null) {
-            if (isNotNullAnnotation(field.getAnnotations())) {
+            if (field.isNotNull()) {
                 throw new ConstraintViolationException("Field " + field.getName() + " cannot be null");
             }
             return;
         }
 
-        if (!field.getType().isInstance(value) || !constraint.getType().isInstance(value)) {
+        if (!field.isFastValid(value)) {
+            for (int i = 0; i < field.getConstraintCount(); i++) {
+                validateFieldValue(field, value, i);
+            }
+        }
+        for (ElementPlan elements : field.getElements()) {
+            if (!elements.isValid(value)) {
+                ViolationReport report = new ViolationReport(1);
+                collectElementViolations(field, elements, value, report);
+                throw new ConstraintViolationException(report.getMessage(0));
+            }
+        }
+    }
+
+    /**
+     * Applies the constraints of a primitive field, checking its value without boxing and
+     * boxing it only to throw the violation of the first constraint it does not meet.
+     *
+     * @param field    The plan of the primitive field to validate.
+     * @param instance The object instance to read the field from.
+     * @throws ConstraintViolationException If the field's value does not meet a constraint.
+     */
+    private void validatePrimitiveConstraints(FieldPlan field, Object instance) throws ConstraintViolationException {
+        for (int i = 0; i < field.getConstraintCount(); i++) {
+            if (!field.isPrimitiveValid(instance, i)) {
+                validateFieldValue(field, field.get(instance), i);
+            }
+        }
+    }
+
+    /**
+     * Validates a field's value against one of its constraints.
+     *
+     * <p>This method checks if the field's value matches the constraint type and applies
+     * the constraint validation. The type check is only performed at validation time when
+     * the declared field type does not already guarantee it.</p>
+     *
+     * @param field The plan of the field to validate.
+     * @param value The non-null value of the field.
+     * @param index The index of the constraint in the field's plan.
+     * @throws ConstraintViolationException If the field's value does not meet the constraint.
+     */
+    @SuppressWarnings("unchecked")
+    private void validateFieldValue(FieldPlan field, Object value, int index) throws ConstraintViolationException {
+        if (!isCompatible(field, value, index)) {
             throw new ConstraintViolationException("Field type mismatch for field " + field.getName());
         }
 
-        ((Constraint<Object>) constraint).validate(value);
+        ((Constraint<Object>) field.getConstraint(index)).validate(value);
     }
 
     /**
@@ -155,12 +1222,94 @@ public class ConstraintProcessor {
      * @return The created constraint instance.
      * @throws IllegalArgumentException If no factory is registered for the annotation's type.
      */
-    @SuppressWarnings("unchecked")
     public <A extends Annotation> Constraint<?> createConstraint(A annotation) {
-        ConstraintFactory<A> factory = (ConstraintFactory<A>) constraintFactories.get(annotation.annotationType());
+        return createConstraint(snapshot.get().registry, annotation);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A extends Annotation> Constraint<?> createConstraint(ConstraintRegistry registry, A annotation) {
+        ConstraintFactory<A> factory = registry.getFactory((Class<A>) annotation.annotationType());
         if (factory != null) {
             return factory.create(annotation);
         }
         throw new IllegalArgumentException("No constraint factory registered for annotation: " + annotation.annotationType().getName());
     }
-}
\ No newline at end of file
+
+    /**
+     * Holds the registry every processor starts with: the built-in factories and those
+     * provided by other libraries.
+     *
+     * <p>Factories are discovered through {@link ServiceLoader} from
+     * {@code META-INF/services/dev.revere.validation.ConstraintFactory} entries and are treated
+     * like factories registered through {@link #registerFactory}. The providers are loaded
+     * once, when the first processor is created, rather than by every processor. If loading
+     * them fails, creating any processor fails.</p>
+     */
+    private static final class ServiceFactories {
+        private static final ConstraintRegistry REGISTRY;
+        private static final ServiceConfigurationError FAILURE;
+
+        static {
+            ConstraintRegistry registry = BUILT_IN_REGISTRY;
+            ServiceConfigurationError failure = null;
+            try {
+                registry = withServiceFactories(registry);
+            } catch (ServiceConfigurationError e) {
+                failure = e;
+            }
+            REGISTRY = registry;
+            FAILURE = failure;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static ConstraintRegistry withServiceFactories(ConstraintRegistry registry) {
+            for (ConstraintFactory factory : ServiceLoader.load(ConstraintFactory.class)) {
+                Class<? extends Annotation> annotationType = factory.getAnnotationType();
+                if (annotationType != null) {
+                    registry = registry.with(annotationType, factory);
+                }
+            }
+            return registry;
+        }
+
+        private static ConstraintRegistry registry() {
+            if (FAILURE != null) {
+                throw new RuntimeException("Failed to load constraint factories", FAILURE);
+            }
+            return REGISTRY;
+        }
+    }
+
+    /**
+     * A registry and time source together with the caches derived from them, published as one
+     * unit so that a cached plan is never used with a registry other than the one it was built
+     * from.
+     */
+    private final class Snapshot {
+        private final ConstraintRegistry registry;
+        private final TimeSource timeSource;
+        private final ClassValue<ValidationPlan> plans;
+        private final ClassValue<CompiledValidator> generatedValidators;
+
+        private Snapshot(ConstraintRegistry registry, TimeSource timeSource) {
+            this.registry = registry;
+            this.timeSource = timeSource;
+            this.plans = new ClassValue<>() {
+                @Override
+                protected ValidationPlan computeValue(Class<?> type) {
+                    PlanBuildEvent event = new PlanBuildEvent();
+                    event.begin();
+                    ValidationPlan plan = buildPlan(registry, type);
+                    event.finish(plan, false);
+                    return plan;
+                }
+            };
+            this.generatedValidators = new ClassValue<>() {
+                @Override
+                protected CompiledValidator computeValue(Class<?> type) {
+                    return findGeneratedValidator(registry, timeSource, type);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package dev.revere.validation;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the constraint factories known to a {@link ConstraintProcessor}.
+ *
+ * <p>Registering a factory never changes a registry: {@link #with} copies it into a new one,
+ * which the processor then publishes atomically. Threads that are validating keep reading
+ * the snapshot they started with, so lookups need no locking.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ConstraintRegistry {
+    private static final ConstraintRegistry EMPTY = new ConstraintRegistry(Map.of(), Set.of(), 0);
+
+    private final Map<Class<? extends Annotation>, ConstraintFactory<?>> factories;
+    private final Set<String> registeredAnnotations;
+    private final long version;
+
+    private ConstraintRegistry(Map<Class<? extends Annotation>, ConstraintFactory<?>> factories, Set<String> registeredAnnotations, long version) {
+        this.factories = factories;
+        this.registeredAnnotations = registeredAnnotations;
+        this.version = version;
+    }
+
+    /**
+     * @return A registry without any factory.
+     */
+    public static ConstraintRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a copy of this registry with a built-in factory added. Built-in factories do not
+     * disable validators generated at compile time.
+     *
+     * @param factory The built-in factory.
+     * @return The new registry.
+     */
+    public ConstraintRegistry withBuiltIn(ConstraintFactory<?> factory) {
+        Map<Class<? extends Annotation>, ConstraintFactory<?>> copy = new HashMap<>(factories);
+        copy.put(factory.getAnnotationType(), factory);
+        return new ConstraintRegistry(Map.copyOf(copy), registeredAnnotations, version + 1);
+    }
+
+    /**
+     * Returns a copy of this registry with a factory added or replaced.
+     *
+     * @param annotationClass The annotation class associated with the constraint.
+     * @param factory         The factory that creates constraints for the given annotation.
+     * @return The new registry.
+     */
+    public <A extends Annotation> ConstraintRegistry with(Class<A> annotationClass, ConstraintFactory<A> factory) {
+        Map<Class<? extends Annotation>, ConstraintFactory<?>> copy = new HashMap<>(factories);
+        copy.put(annotationClass, factory);
+        Set<String> names = new HashSet<>(registeredAnnotations);
+        names.add(annotationClass.getName());
+        return new ConstraintRegistry(Map.copyOf(copy), Set.copyOf(names), version + 1);
+    }
+
+    /**
+     * @param annotationType The annotation type.
+     * @return The factory for the annotation type, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public <A extends Annotation> ConstraintFactory<A> getFactory(Class<A> annotationType) {
+        return (ConstraintFactory<A>) factories.get(annotationType);
+    }
+
+    /**
+     * @param annotationType The annotation type.
+     * @return True if a factory is registered for the annotation type.
+     */
+    public boolean hasFactory(Class<? extends Annotation> annotationType) {
+        return factories.containsKey(annotationType);
+    }
+
+    /**
+     * @param annotationName The fully qualified name of an annotation type.
+     * @return True if a factory was registered for the annotation through {@link #with}.
+     */
+    public boolean isRegistered(String annotationName) {
+        return registeredAnnotations.contains(annotationName);
+    }
+
+    /**
+     * @return The number of copies this registry is derived from, starting at 0 for an empty registry.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,6 +1,37 @@
 package dev.revere.validation;
 
+import dev.revere.validation.assertions.Assert;
+import dev.revere.validation.cache.ResultCache;
+import dev.revere.validation.column.ColumnValidator;
+import dev.revere.validation.constraints.Constraint;
 import dev.revere.validation.exceptions.ConstraintViolationException;
+import dev.revere.validation.jfr.ValidationEvent;
+import dev.revere.validation.metrics.ValidationMetrics;
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.ValidationPlan;
+import dev.revere.validation.result.BatchPolicy;
+import dev.revere.validation.result.BatchResult;
+import dev.revere.validation.result.Validated;
+import dev.revere.validation.result.ViolationReport;
+import dev.revere.validation.stream.ValidatingProcessor;
+
+import java.lang.annotation.Annotation;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * @author Remi
@@ -8,12 +39,823 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
  * @date 8/19/2024
  */
 public class ValidationEngine {
-    private final ConstraintProcessor processor = new ConstraintProcessor();
+
+    /**
+     * The smallest number of instances a batch is split into per task.
+     */
+    public static final int MIN_BATCH_CHUNK_SIZE = 256;
+
+    /**
+     * The default number of blocking constraints an engine checks at the same time.
+     */
+    public static final int DEFAULT_MAX_BLOCKING_CHECKS = 64;
+
+    private final ConstraintProcessor processor;
+    private final Executor blockingExecutor;
+    private volatile ValidationMetrics metrics;
+    private volatile ResultCache resultCache;
+
+    public ValidationEngine() {
+        this(new ConstraintProcessor());
+    }
+
+    public ValidationEngine(ConstraintProcessor processor) {
+        this(processor, DEFAULT_MAX_BLOCKING_CHECKS);
+    }
+
+    /**
+     * @param processor         The processor to validate with.
+     * @param maxBlockingChecks The number of blocking constraints {@link #validateAsync} checks at the same time.
+     * @throws IllegalArgumentException If the number of blocking checks is not positive.
+     */
+    public ValidationEngine(ConstraintProcessor processor, int maxBlockingChecks) {
+        Assert.isTrue(maxBlockingChecks > 0, "Max blocking checks must be positive");
+        this.processor = processor;
+        this.blockingExecutor = newBlockingExecutor(maxBlockingChecks);
+    }
+
+    /**
+     * Creates an executor that starts a virtual thread per task, of which at most the given
+     * number run their task at the same time.
+     */
+    private static Executor newBlockingExecutor(int maxBlockingChecks) {
+        Semaphore permits = new Semaphore(maxBlockingChecks);
+        ThreadFactory threads = Thread.ofVirtual().name("validation-blocking-", 0).factory();
+        return task -> threads.newThread(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        }).start();
+    }
+
+    /**
+     * Installs the metrics that every validation through this engine is recorded to.
+     *
+     * <p>Metrics are off by default. While they are, each validation only pays for one
+     * branch; once installed, each validation also reads the clock twice and updates the
+     * metrics. Independently of the metrics, every validation is reported to Flight Recorder
+     * as a {@link ValidationEvent} when a recording enables it.</p>
+     *
+     * @param metrics The metrics to record to, or null to turn metrics off.
+     */
+    public void setMetrics(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return The installed metrics, or null if metrics are off.
+     */
+    public ValidationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Installs a cache of the outcome of validating instances of immutable classes, records
+     * and classes annotated with {@link dev.revere.validation.annotations.Immutable}, so that
+     * validating the same instance again costs one lookup.
+     *
+     * <p>The cache is off by default. {@link #isValid} serves valid and invalid outcomes from
+     * it; {@link #validate} and {@link #validateAll(Object)} serve valid outcomes only, as the
+     * violations of an invalid instance are not cached. Outcomes served from the cache are
+     * recorded to the metrics and to Flight Recorder like any other validation, with the time
+     * the lookup took.</p>
+     *
+     * @param resultCache The cache to use, or null to turn caching off.
+     */
+    public void setResultCache(ResultCache resultCache) {
+        this.resultCache = resultCache;
+    }
+
+    /**
+     * @return The installed result cache, or null if caching is off.
+     */
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Sets the clock that {@link dev.revere.validation.annotations.PastDate} and
+     * {@link dev.revere.validation.annotations.FutureDate} compare dates with, for example a
+     * fixed clock in tests or a clock in the zone of the business.
+     *
+     * @param clock The clock to read the current time from.
+     * @throws IllegalArgumentException If the clock is null.
+     * @see ConstraintProcessor#setClock
+     */
+    public void setClock(Clock clock) {
+        Assert.notNull(clock, "Clock cannot be null");
+        processor.setClock(clock);
+    }
+
+    /**
+     * @return The clock the date constraints compare dates with, the system clock by default.
+     */
+    public Clock getClock() {
+        return processor.getTimeSource().getClock();
+    }
 
     public <T> void validate(T instance) throws ConstraintViolationException, IllegalAccessException {
         if (instance == null) {
             throw new ConstraintViolationException("Instance cannot be null");
         }
-        processor.applyConstraints(instance);
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        ResultCache cache = this.resultCache;
+        ValidationPlan plan = null;
+        boolean valid = false;
+        boolean violated = false;
+        try {
+            if (cache != null) {
+                plan = processor.getPlan(instance.getClass());
+                if (Boolean.TRUE.equals(cache.getIfPresent(plan, instance))) {
+                    valid = true;
+                    return;
+                }
+            }
+            processor.applyConstraints(instance);
+            valid = true;
+            if (cache != null) {
+                cache.put(plan, instance, true);
+            }
+        } catch (ConstraintViolationException e) {
+            violated = true;
+            throw e;
+        } finally {
+            if (metrics != null) {
+                long duration = System.nanoTime() - start;
+                if (violated) {
+                    recordFailFast(metrics, processor.getPlan(instance.getClass()), instance, duration);
+                } else {
+                    metrics.recordValidation(processor.getPlan(instance.getClass()), duration, valid);
+                }
+            }
+            event.finish(processor, instance, valid);
+        }
+    }
+
+    /**
+     * Validates the values passed to the canonical constructor of a record, for use in its
+     * compact constructor, which cannot throw checked exceptions:
+     *
+     * <pre>{@code
+     * record Sku(@NotEmpty String code, @MinValue(0) int stock) {
+     *     private static final ValidationEngine ENGINE = new ValidationEngine();
+     *
+     *     Sku {
+     *         ENGINE.requireValid(Sku.class, code, stock);
+     *     }
+     * }
+     * }</pre>
+     *
+     * @param type       The record class.
+     * @param components The value of every component of the record, in declaration order.
+     * @throws IllegalArgumentException If a value violates a constraint, with the
+     *                                  {@link ConstraintViolationException} as its cause, or if the number of values is not the
+     *                                  number of components.
+     * @see ConstraintProcessor#applyComponentConstraints
+     */
+    public <R extends Record> void requireValid(Class<R> type, Object... components) {
+        try {
+            processor.applyComponentConstraints(type, components);
+        } catch (ConstraintViolationException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Validates the given instance and collects every violation instead of throwing at the first one.
+     *
+     * <p>A collection or an array passed here is validated as one instance, against the
+     * constraints of its own class. Batches of instances are validated by
+     * {@link #validateBatch(Collection)} and {@link #validateBatch(Object[])}.</p>
+     *
+     * @param instance The object instance to validate.
+     * @return A new report with every violation found.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> ViolationReport validateAll(T instance) {
+        ViolationReport report = new ViolationReport();
+        validateAll(instance, report);
+        return report;
+    }
+
+    /**
+     * Validates the given instance into an existing report, which is cleared first.
+     *
+     * <p>Reusing a report avoids any allocation when the instance is valid.</p>
+     *
+     * @param instance The object instance to validate.
+     * @param report   The report to reuse.
+     * @return The given report, filled with every violation found.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> ViolationReport validateAll(T instance, ViolationReport report) {
+        Assert.notNull(instance, "Instance cannot be null");
+        report.clear();
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        ResultCache cache = this.resultCache;
+        if (metrics == null && cache == null) {
+            processor.collectViolations(instance, report);
+        } else {
+            long start = metrics == null ? 0L : System.nanoTime();
+            ValidationPlan plan = processor.getPlan(instance.getClass());
+            if (cache == null || !Boolean.TRUE.equals(cache.getIfPresent(plan, instance))) {
+                processor.collectViolations(plan, instance, report);
+                if (cache != null) {
+                    cache.put(plan, instance, report.isValid());
+                }
+            }
+            if (metrics != null) {
+                metrics.recordValidation(plan, System.nanoTime() - start, report.isValid());
+                recordViolations(metrics, plan, report);
+            }
+        }
+        event.finish(processor, instance, report.isValid());
+        return report;
+    }
+
+    /**
+     * Validates only the given fields of an instance, for example the fields an event has just
+     * changed on a long-lived object, and collects their violations.
+     *
+     * <p>The names are resolved to the field indexes of the class's cached plan, and only the
+     * constraints of those fields are checked. Fields without constraints are ignored.</p>
+     *
+     * @param instance   The object instance to validate.
+     * @param fieldNames The names of the fields to validate.
+     * @return A new report with the violations of the given fields.
+     * @throws IllegalArgumentException If the instance is null or its class declares no field with one of the names.
+     */
+    public <T> ViolationReport validateFields(T instance, String... fieldNames) {
+        Assert.notNull(instance, "Instance cannot be null");
+        ValidationPlan plan = processor.getPlan(instance.getClass());
+        ViolationReport report = new ViolationReport();
+        processor.collectFieldViolations(plan, instance, plan.getFieldIndexes(fieldNames), report);
+        return report;
+    }
+
+    /**
+     * Validates the fields of an instance that changed since a previous snapshot of it, and
+     * collects their violations.
+     *
+     * <p>Each constrained field is compared between the two instances, numeric primitives
+     * without boxing and other values with {@code equals}, and only the fields that differ
+     * are checked. A snapshot that shares a mutable object with the current instance cannot
+     * tell whether it changed, so such objects must be copied into the snapshot. Without a
+     * previous snapshot, every field is validated as by {@link #validateAll(Object)}.</p>
+     *
+     * @param previous The snapshot the previous validation ran on, or null.
+     * @param current  The object instance to validate.
+     * @return A new report with the violations of the changed fields.
+     * @throws IllegalArgumentException If the current instance is null or the instances have different classes.
+     */
+    public <T> ViolationReport revalidate(T previous, T current) {
+        Assert.notNull(current, "Instance cannot be null");
+        if (previous == null) {
+            return validateAll(current);
+        }
+        Assert.isTrue(previous.getClass() == current.getClass(), "Previous and current instances must have the same class");
+        ViolationReport report = new ViolationReport();
+        processor.collectChangedViolations(processor.getPlan(current.getClass()), previous, current, report);
+        return report;
+    }
+
+    private static void recordViolations(ValidationMetrics metrics, ValidationPlan plan, ViolationReport report) {
+        for (int i = 0; i < report.size(); i++) {
+            metrics.recordViolation(plan, report.getConstraintType(i));
+        }
+    }
+
+    /**
+     * Validates the given instance and collects every violation without blocking the caller
+     * on {@link dev.revere.validation.constraints.Constraint#isBlocking() blocking} constraints.
+     *
+     * <p>Cheap constraints are checked on the calling thread. Blocking constraints, such as
+     * lookups in a cache or a database, are checked on virtual threads, concurrently for all
+     * fields and limited to the engine's maximum number of blocking checks, so the future
+     * completes after the slowest lookup rather than after the sum of all lookups.</p>
+     *
+     * @param instance The object instance to validate.
+     * @return A future completed with every violation found.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> CompletableFuture<ViolationReport> validateAsync(T instance) {
+        Assert.notNull(instance, "Instance cannot be null");
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        return processor.collectViolationsAsync(instance, blockingExecutor).thenApply(report -> {
+            if (metrics != null) {
+                ValidationPlan plan = processor.getPlan(instance.getClass());
+                metrics.recordValidation(plan, System.nanoTime() - start, report.isValid());
+                recordViolations(metrics, plan, report);
+            }
+            event.finish(processor, instance, report.isValid());
+            return report;
+        });
+    }
+
+    /**
+     * Validates the given instance and wraps it with the outcome.
+     *
+     * <p>The instance is checked once, collecting its violations as by {@link #validateAll}.
+     * Valid instances are wrapped without a report.</p>
+     *
+     * @param instance The object instance to validate.
+     * @return The instance, marked as valid or invalid.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> Validated<T> validated(T instance) {
+        return validated(instance, new ViolationReport());
+    }
+
+    /**
+     * Validates the given instance into an existing report and wraps it with the outcome.
+     *
+     * <p>A valid instance is wrapped without the report, which can then be reused for the
+     * next instance. An invalid instance is wrapped with the report, which then belongs to
+     * the result: the next instance must be validated into a new report.</p>
+     *
+     * @param instance The object instance to validate.
+     * @param report   The report to reuse, which is cleared first.
+     * @return The instance, marked as valid or invalid.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> Validated<T> validated(T instance, ViolationReport report) {
+        if (validateAll(instance, report).isValid()) {
+            return Validated.valid(instance);
+        }
+        return Validated.invalid(instance, report);
+    }
+
+    /**
+     * Lazily keeps the valid elements of a stream, without throwing or collecting violations.
+     *
+     * @param stream The stream to filter.
+     * @return A stream of the valid elements.
+     */
+    public <T> Stream<T> filterValid(Stream<T> stream) {
+        return stream.filter(this::isValid);
+    }
+
+    /**
+     * Lazily keeps the valid elements of a stream and passes each invalid element, with its
+     * violations, to a side channel as it flows through.
+     *
+     * <p>Each element is checked once, into a report that is reused for valid elements.</p>
+     *
+     * @param stream  The stream to filter.
+     * @param invalid The consumer of the invalid elements. It must be thread-safe if the stream is parallel.
+     * @return A stream of the valid elements.
+     */
+    public <T> Stream<T> filterValid(Stream<T> stream, Consumer<? super Validated<T>> invalid) {
+        return stream.filter(validOrRejected(invalid));
+    }
+
+    /**
+     * Returns a collector that passes the valid elements to a downstream collector and each
+     * invalid element, with its violations, to a side channel.
+     *
+     * @param invalid    The consumer of the invalid elements. It must be thread-safe if the stream is parallel.
+     * @param downstream The collector of the valid elements.
+     * @return A collector with the result of the downstream collector.
+     */
+    public <T, A, R> Collector<T, A, R> partitioning(Consumer<? super Validated<T>> invalid, Collector<? super T, A, R> downstream) {
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        Predicate<T> valid = validOrRejected(invalid);
+        return Collector.of(downstream.supplier(), (container, instance) -> {
+            if (valid.test(instance)) {
+                accumulator.accept(container, instance);
+            }
+        }, downstream.combiner(), downstream.finisher(), downstream.characteristics().toArray(new Collector.Characteristics[0]));
+    }
+
+    /**
+     * Returns a predicate that validates an element once into a per-thread report. A valid
+     * element leaves the report to be reused for the next one; an invalid element is passed
+     * with the report to the side channel, and the thread starts a new report.
+     */
+    private <T> Predicate<T> validOrRejected(Consumer<? super Validated<T>> invalid) {
+        ThreadLocal<ViolationReport> reports = ThreadLocal.withInitial(ViolationReport::new);
+        return instance -> {
+            Validated<T> validated = validated(instance, reports.get());
+            if (validated.isValid()) {
+                return true;
+            }
+            reports.remove();
+            invalid.accept(validated);
+            return false;
+        };
+    }
+
+    /**
+     * Creates a {@link java.util.concurrent.Flow.Processor} that validates the elements of a
+     * publisher as they are requested.
+     *
+     * @return A new processor backed by this engine.
+     */
+    public <T> ValidatingProcessor<T> newProcessor() {
+        return new ValidatingProcessor<>(this);
+    }
+
+    /**
+     * Validates every instance of a collection in parallel on the common fork-join pool.
+     *
+     * @param instances The instances to validate.
+     * @return The violations of the invalid instances, keyed by their position in the collection.
+     * @throws IllegalArgumentException If the collection or one of its instances is null.
+     * @see #validateBatch(Object[], BatchPolicy, Executor)
+     */
+    public <T> BatchResult validateBatch(Collection<? extends T> instances) {
+        return validateBatch(instances, BatchPolicy.COLLECT_ALL);
+    }
+
+    /**
+     * Validates the instances of a collection in parallel on the common fork-join pool.
+     *
+     * @param instances The instances to validate.
+     * @param policy    Whether to stop at the first invalid instance.
+     * @return The violations of the invalid instances, keyed by their position in the collection.
+     * @throws IllegalArgumentException If the collection or one of its instances is null.
+     * @see #validateBatch(Object[], BatchPolicy, Executor)
+     */
+    public <T> BatchResult validateBatch(Collection<? extends T> instances, BatchPolicy policy) {
+        return validateBatch(instances, policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the instances of a collection in parallel on the given executor.
+     *
+     * @param instances The instances to validate.
+     * @param policy    Whether to stop at the first invalid instance.
+     * @param executor  The executor to run the validation tasks on.
+     * @return The violations of the invalid instances, keyed by their position in the collection.
+     * @throws IllegalArgumentException If the collection or one of its instances is null.
+     * @see #validateBatch(Object[], BatchPolicy, Executor)
+     */
+    public <T> BatchResult validateBatch(Collection<? extends T> instances, BatchPolicy policy, Executor executor) {
+        Assert.notNull(instances, "Instances cannot be null");
+        return runBatch(instances.toArray(), policy, executor);
+    }
+
+    /**
+     * Validates every instance of an array in parallel on the common fork-join pool.
+     *
+     * @param instances The instances to validate.
+     * @return The violations of the invalid instances, keyed by their index in the array.
+     * @throws IllegalArgumentException If the array or one of its instances is null.
+     * @see #validateBatch(Object[], BatchPolicy, Executor)
+     */
+    public <T> BatchResult validateBatch(T[] instances) {
+        return validateBatch(instances, BatchPolicy.COLLECT_ALL);
+    }
+
+    /**
+     * Validates the instances of an array in parallel on the common fork-join pool.
+     *
+     * @param instances The instances to validate.
+     * @param policy    Whether to stop at the first invalid instance.
+     * @return The violations of the invalid instances, keyed by their index in the array.
+     * @throws IllegalArgumentException If the array or one of its instances is null.
+     * @see #validateBatch(Object[], BatchPolicy, Executor)
+     */
+    public <T> BatchResult validateBatch(T[] instances, BatchPolicy policy) {
+        return validateBatch(instances, policy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Validates the instances of an array in parallel on the given executor.
+     *
+     * <p>The array is split into contiguous chunks of at least {@link #MIN_BATCH_CHUNK_SIZE}
+     * instances, up to four chunks per thread of the executor. All chunks but the last run on
+     * the executor, the last one runs on the calling thread. Each chunk resolves the
+     * validation plan of a class once and reuses it for the following instances of the same
+     * class, and reuses one report until it finds an invalid instance, so valid instances
+     * cost no allocation. Violations are collected as by {@link #validateAll(Object)}.</p>
+     *
+     * @param instances The instances to validate.
+     * @param policy    Whether to stop at the first invalid instance.
+     * @param executor  The executor to run the validation tasks on.
+     * @return The violations of the invalid instances, keyed by their index in the array.
+     * @throws IllegalArgumentException If the array or one of its instances is null.
+     */
+    public <T> BatchResult validateBatch(T[] instances, BatchPolicy policy, Executor executor) {
+        Assert.notNull(instances, "Instances cannot be null");
+        return runBatch(instances, policy, executor);
+    }
+
+    private BatchResult runBatch(Object[] instances, BatchPolicy policy, Executor executor) {
+        Assert.notNull(policy, "Policy cannot be null");
+        Assert.notNull(executor, "Executor cannot be null");
+        for (int i = 0; i < instances.length; i++) {
+            if (instances[i] == null) {
+                throw new IllegalArgumentException("Instance at index " + i + " cannot be null");
+            }
+        }
+
+        int parallelism = executor instanceof ForkJoinPool pool ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+        int chunkCount = Math.max(1, Math.min(parallelism * 4, instances.length / MIN_BATCH_CHUNK_SIZE));
+        AtomicBoolean stopped = new AtomicBoolean();
+        BatchChunk[] chunks = new BatchChunk[chunkCount];
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[chunkCount - 1];
+        for (int i = 0; i < chunkCount; i++) {
+            int from = (int) ((long) instances.length * i / chunkCount);
+            int to = (int) ((long) instances.length * (i + 1) / chunkCount);
+            chunks[i] = new BatchChunk(instances, from, to, policy == BatchPolicy.FAIL_FAST ? stopped : null);
+            if (i < tasks.length) {
+                tasks[i] = CompletableFuture.runAsync(chunks[i], executor);
+            }
+        }
+
+        try {
+            chunks[chunkCount - 1].run();
+        } finally {
+            try {
+                CompletableFuture.allOf(tasks).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        int invalidCount = 0;
+        boolean complete = true;
+        for (BatchChunk chunk : chunks) {
+            invalidCount += chunk.invalidCount;
+            complete &= chunk.complete;
+        }
+
+        int[] indexes = new int[invalidCount];
+        ViolationReport[] reports = new ViolationReport[invalidCount];
+        int position = 0;
+        for (BatchChunk chunk : chunks) {
+            System.arraycopy(chunk.indexes, 0, indexes, position, chunk.invalidCount);
+            System.arraycopy(chunk.reports, 0, reports, position, chunk.invalidCount);
+            position += chunk.invalidCount;
+        }
+        return new BatchResult(instances.length, indexes, reports, complete);
+    }
+
+    /**
+     * Checks whether the given instance meets all of its constraints, without creating
+     * exceptions, formatting messages or allocating.
+     *
+     * @param instance The object instance to validate.
+     * @return True if every constraint is met.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> boolean isValid(T instance) {
+        Assert.notNull(instance, "Instance cannot be null");
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        ResultCache cache = this.resultCache;
+        boolean valid;
+        if (metrics == null) {
+            valid = cache == null ? processor.isValid(instance) : isValidCached(cache, instance);
+        } else {
+            long start = System.nanoTime();
+            valid = cache == null ? processor.isValid(instance) : isValidCached(cache, instance);
+            long duration = System.nanoTime() - start;
+            if (valid) {
+                metrics.recordValidation(processor.getPlan(instance.getClass()), duration, true);
+            } else {
+                recordFailFast(metrics, processor.getPlan(instance.getClass()), instance, duration);
+            }
+        }
+        event.finish(processor, instance, valid);
+        return valid;
+    }
+
+    private boolean isValidCached(ResultCache cache, Object instance) {
+        ValidationPlan plan = processor.getPlan(instance.getClass());
+        Boolean cached = cache.getIfPresent(plan, instance);
+        if (cached != null) {
+            return cached;
+        }
+        boolean valid = processor.isValid(instance);
+        cache.put(plan, instance, valid);
+        return valid;
+    }
+
+    /**
+     * Computes a mask with one bit per constraint slot of the instance's plan, set for every
+     * violated constraint. Slots are numbered by {@link dev.revere.validation.plan.FieldPlan#getSlot}.
+     *
+     * @param instance The object instance to validate.
+     * @return The mask of violated slots, 0 if the instance is valid.
+     * @throws IllegalArgumentException If the instance is null or its class has more than 64 constraints.
+     */
+    public <T> long failureMask(T instance) {
+        Assert.notNull(instance, "Instance cannot be null");
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        long mask;
+        if (metrics == null) {
+            mask = processor.failureMask(instance);
+        } else {
+            long start = System.nanoTime();
+            mask = processor.failureMask(instance);
+            ValidationPlan plan = processor.getPlan(instance.getClass());
+            metrics.recordValidation(plan, System.nanoTime() - start, mask == 0L);
+            recordFailures(metrics, plan, BitSet.valueOf(new long[]{mask}));
+        }
+        event.finish(processor, instance, mask == 0L);
+        return mask;
+    }
+
+    /**
+     * Computes the violated constraint slots of the instance's plan into a bit set, for
+     * classes with any number of constraints. The bit set is cleared first.
+     *
+     * @param instance The object instance to validate.
+     * @param failures The bit set to reuse.
+     * @return The given bit set, with a bit set for every violated slot.
+     * @throws IllegalArgumentException If the instance is null.
+     */
+    public <T> BitSet failureMask(T instance, BitSet failures) {
+        Assert.notNull(instance, "Instance cannot be null");
+        failures.clear();
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        ValidationMetrics metrics = this.metrics;
+        if (metrics == null) {
+            processor.collectFailures(instance, failures);
+        } else {
+            long start = System.nanoTime();
+            processor.collectFailures(instance, failures);
+            ValidationPlan plan = processor.getPlan(instance.getClass());
+            metrics.recordValidation(plan, System.nanoTime() - start, failures.isEmpty());
+            recordFailures(metrics, plan, failures);
+        }
+        event.finish(processor, instance, failures.isEmpty());
+        return failures;
+    }
+
+    /**
+     * Records a fail-fast validation that found the instance invalid, together with the
+     * constraint it stopped at. Fail-fast validation does not tell which constraint failed, so
+     * the first violated constraint is looked up again, after the validation was timed. A
+     * violation in an object reached through a cascade is looked up by collecting the
+     * violations of the instance.
+     */
+    private void recordFailFast(ValidationMetrics metrics, ValidationPlan plan, Object instance, long durationNanos) {
+        int slot = processor.firstFailure(plan, instance);
+        if (slot >= 0) {
+            metrics.recordFailFast(plan, durationNanos, slot);
+            metrics.recordViolation(plan, annotationTypeOf(plan, slot));
+            return;
+        }
+        metrics.recordValidation(plan, durationNanos, false);
+        if (plan.hasCascades()) {
+            ViolationReport report = new ViolationReport();
+            processor.collectViolations(plan, instance, report);
+            if (!report.isValid()) {
+                metrics.recordViolation(plan, report.getConstraintType(0));
+            }
+        }
+    }
+
+    private static Class<? extends Annotation> annotationTypeOf(ValidationPlan plan, int slot) {
+        for (FieldPlan field : plan.getFields()) {
+            if (slot < field.getSlot(field.getSlotCount())) {
+                return field.getAnnotationType(slot - field.getSlot(0));
+            }
+        }
+        throw new IllegalArgumentException("Class " + plan.getType().getName() + " has no constraint slot " + slot);
+    }
+
+    private static void recordFailures(ValidationMetrics metrics, ValidationPlan plan, BitSet failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (FieldPlan field : plan.getFields()) {
+            for (int i = 0; i < field.getSlotCount(); i++) {
+                if (failures.get(field.getSlot(i))) {
+                    metrics.recordViolation(plan, field.getAnnotationType(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the validation plan of a class, for example to map failure mask bits back to fields.
+     *
+     * @param type The class to get the plan for.
+     * @return The validation plan of the class.
+     */
+    public ValidationPlan getPlan(Class<?> type) {
+        return processor.getPlan(type);
+    }
+
+    /**
+     * Creates a validator for the values of a numeric field held in columns, such as a
+     * {@code double[]} with the field's value for every record of a batch.
+     *
+     * <p>The column validator applies the {@link dev.revere.validation.annotations.Range},
+     * {@link dev.revere.validation.annotations.MinValue} and
+     * {@link dev.revere.validation.annotations.MaxValue} constraints of the field to whole
+     * columns at once, through the Vector API where it is available.</p>
+     *
+     * @param type      The class declaring the field.
+     * @param fieldName The name of the field.
+     * @return The column validator for the field's constraints.
+     * @throws IllegalArgumentException If the field has no constraints or a constraint is not numeric.
+     */
+    public ColumnValidator columnValidator(Class<?> type, String fieldName) {
+        for (FieldPlan field : processor.getPlan(type).getFields()) {
+            if (field.getName().equals(fieldName) && field.getConstraintCount() > 0) {
+                Constraint<?>[] constraints = new Constraint<?>[field.getConstraintCount()];
+                for (int i = 0; i < constraints.length; i++) {
+                    constraints[i] = field.getConstraint(i);
+                }
+                return ColumnValidator.of(constraints);
+            }
+        }
+        throw new IllegalArgumentException("Field " + fieldName + " of " + type.getName() + " has no constraints");
+    }
+
+    /**
+     * A contiguous range of a batch validated by one task. Its fields are read by the thread
+     * that started the batch once the task has completed.
+     */
+    private final class BatchChunk implements Runnable {
+        private final Object[] instances;
+        private final int from;
+        private final int to;
+        private final AtomicBoolean stopped;
+        private int[] indexes = new int[0];
+        private ViolationReport[] reports = new ViolationReport[0];
+        private int invalidCount;
+        private boolean complete;
+
+        private BatchChunk(Object[] instances, int from, int to, AtomicBoolean stopped) {
+            this.instances = instances;
+            this.from = from;
+            this.to = to;
+            this.stopped = stopped;
+        }
+
+        @Override
+        public void run() {
+            Class<?> type = null;
+            ValidationPlan plan = null;
+            ViolationReport report = new ViolationReport();
+            ValidationMetrics metrics = ValidationEngine.this.metrics;
+            int index = from;
+            while (index < to && (stopped == null || !stopped.get())) {
+                Object instance = instances[index];
+                if (instance.getClass() != type) {
+                    type = instance.getClass();
+                    plan = processor.getPlan(type);
+                }
+
+                ValidationEvent event = new ValidationEvent();
+                event.begin();
+                if (metrics == null) {
+                    processor.collectViolations(plan, instance, report);
+                } else {
+                    long start = System.nanoTime();
+                    processor.collectViolations(plan, instance, report);
+                    metrics.recordValidation(plan, System.nanoTime() - start, report.isValid());
+                    recordViolations(metrics, plan, report);
+                }
+                event.finish(processor, instance, report.isValid());
+                if (!report.isValid()) {
+                    add(index, report);
+                    report = new ViolationReport();
+                    if (stopped != null) {
+                        stopped.set(true);
+                    }
+                }
+                index++;
+            }
+            complete = index == to;
+        }
+
+        private void add(int index, ViolationReport report) {
+            if (invalidCount == indexes.length) {
+                int capacity = Math.max(8, invalidCount * 2);
+                indexes = Arrays.copyOf(indexes, capacity);
+                reports = Arrays.copyOf(reports, capacity);
+            }
+            indexes[invalidCount] = index;
+            reports[invalidCount] = report;
+            invalidCount++;
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,7 +10,37 @@ import java.lang.annotation.Target;
  * @project java-validation-library
  * @date 8/19/2024
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Email {
+
+    /**
+     * @return How strictly the top-level domain of the address is checked.
+     */
+    Strictness strictness() default Strictness.STANDARD;
+
+    /**
+     * The accepted lengths of the last domain label of an address.
+     */
+    enum Strictness {
+        /**
+         * Top-level domains of 2 to 4 characters, such as {@code .io} or {@code .info}.
+         */
+        STANDARD(4),
+        /**
+         * Top-level domains of 2 to 63 characters, which also allows domains such as
+         * {@code .technology}.
+         */
+        RELAXED(63);
+
+        private final int maxTopLevelDomainLength;
+
+        Strictness(int maxTopLevelDomainLength) {
+            this.maxTopLevelDomainLength = maxTopLevelDomainLength;
+        }
+
+        public int getMaxTopLevelDomainLength() {
+            return maxTopLevelDomainLength;
+        }
+    }
 }
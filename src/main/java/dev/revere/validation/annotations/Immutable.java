@@ -0,0 +1,31 @@
+package dev.revere.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose instances never change once constructed, so that a
+ * {@link dev.revere.validation.cache.ResultCache} may remember whether an instance is valid
+ * instead of validating it again. Records are treated as immutable without this annotation,
+ * unless they cascade or hold arrays or collections, which can change inside a record.
+ *
+ * <p>The objects, arrays and collections reached through the fields of an annotated class
+ * must be immutable as well, as a cached result is not invalidated when they change.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Immutable {
+
+    /**
+     * @return True to share cached results between equal instances, keyed by
+     * {@link Object#equals} and {@link Object#hashCode}, instead of caching the result of each
+     * instance by identity.
+     */
+    boolean byValue() default false;
+}
@@ -11,6 +11,6 @@ import java.lang.annotation.Target;
  * @date 8/19/2024
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
 public @interface NotEmpty {
 }
@@ -11,7 +11,12 @@ import java.lang.annotation.Target;
  * @date 8/19/2024
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
 public @interface Pattern {
     String value();
+
+    /**
+     * @return The match flags, as accepted by {@link java.util.regex.Pattern#compile(String, int)}.
+     */
+    int flags() default 0;
 }
\ No newline at end of file
@@ -10,7 +10,7 @@ import java.lang.annotation.Target;
  * @project java-validation-library
  * @date 8/19/2024
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.TYPE_USE})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface Range {
     double min();
@@ -0,0 +1,19 @@
+package dev.revere.validation.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cascades validation into the value of a field: the object it refers to, or every element
+ * of an array, {@link Iterable} or the values of a {@link java.util.Map}.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Valid {
+}
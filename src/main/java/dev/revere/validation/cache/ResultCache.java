@@ -0,0 +1,399 @@
+package dev.revere.validation.cache;
+
+import dev.revere.validation.annotations.Immutable;
+import dev.revere.validation.assertions.Assert;
+import dev.revere.validation.plan.ValidationPlan;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers whether instances of immutable classes are valid, so that validating the same
+ * instance again costs one lookup instead of checking its constraints.
+ *
+ * <p>Only instances of records and of classes annotated with {@link Immutable} are cached,
+ * and only if their plan is not {@link ValidationPlan#isTimeDependent() time-dependent} and
+ * has no {@link ValidationPlan#hasBlockingConstraints() blocking constraints}, whose outcome
+ * depends on external state rather than on the instance.
+ * A record is only shallowly immutable: its components cannot be reassigned, but the
+ * objects, arrays and collections they refer to can change. Records whose plan
+ * {@link ValidationPlan#hasCascades() cascades} or has
+ * {@link ValidationPlan#hasContainerFields() container fields} are therefore only cached
+ * when annotated with {@link Immutable}, which vouches for the whole object graph.
+ * Results are keyed by the identity of the instance, or by {@link Object#equals} and
+ * {@link Object#hashCode} for classes annotated with {@code @Immutable(byValue = true)}.
+ * Either way the key holds the instance weakly, so a cached result never keeps it from
+ * being garbage collected. A result is only returned for the plan it was computed with, so
+ * a cache shared by engines, or outliving a change of their factories, never returns a
+ * result from another plan.</p>
+ *
+ * <p>The cache holds at most {@link #getMaximumSize()} results. Once full, a new result is
+ * admitted only if its instance was looked up more often than the oldest cached one, which
+ * is then evicted; otherwise the oldest one is moved to the back, so the next admission is
+ * weighed against another. Lookup frequencies are estimated with a count-min sketch whose
+ * counters are halved periodically, so that past popularity fades. A burst of instances
+ * seen once therefore cannot flush the results of instances validated over and over.</p>
+ *
+ * <p>Lookups are lock-free. Adding a result locks the cache, which only happens after the
+ * instance has been validated.</p>
+ *
+ * <pre>{@code
+ * ResultCache cache = new ResultCache(50_000);
+ * engine.setResultCache(cache);
+ * }</pre>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ResultCache {
+
+    /**
+     * The number of results a cache created without a size holds at most.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final ClassValue<KeyMode> KEY_MODES = new ClassValue<>() {
+        @Override
+        protected KeyMode computeValue(Class<?> type) {
+            Immutable immutable = type.getAnnotation(Immutable.class);
+            if (immutable != null) {
+                return immutable.byValue() ? KeyMode.VALUE : KeyMode.IDENTITY;
+            }
+            return type.isRecord() ? KeyMode.RECORD : KeyMode.NONE;
+        }
+    };
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final ArrayDeque<Key> order = new ArrayDeque<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public ResultCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize The number of results the cache holds at most.
+     * @throws IllegalArgumentException If the size is not positive.
+     */
+    public ResultCache(int maximumSize) {
+        Assert.isTrue(maximumSize > 0, "Maximum size must be positive");
+        this.maximumSize = maximumSize;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * @param type A class.
+     * @return True if the class is a record or is annotated with {@link Immutable}.
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return KEY_MODES.get(type) != KeyMode.NONE;
+    }
+
+    /**
+     * Looks up whether an instance was found valid with the given plan.
+     *
+     * <p>Instances that cannot be cached return null without counting as a miss.</p>
+     *
+     * @param plan     The plan of the instance's class.
+     * @param instance The instance to look up.
+     * @return The cached outcome, or null if none is cached for this plan.
+     */
+    public Boolean getIfPresent(ValidationPlan plan, Object instance) {
+        KeyMode mode = KEY_MODES.get(instance.getClass());
+        if (!isCacheable(mode, plan)) {
+            return null;
+        }
+        boolean byValue = mode == KeyMode.VALUE;
+        int hash = hash(instance, byValue);
+        sketch.increment(hash);
+        Entry entry = entries.get(new Lookup(instance, byValue, hash));
+        if (entry != null && entry.plan == plan) {
+            hits.increment();
+            return entry.valid;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches the outcome of validating an instance with the given plan, replacing any outcome
+     * cached for it. Instances that cannot be cached are ignored.
+     *
+     * @param plan     The plan the instance was validated with.
+     * @param instance The validated instance.
+     * @param valid    True if the instance meets all of its constraints.
+     */
+    public void put(ValidationPlan plan, Object instance, boolean valid) {
+        KeyMode mode = KEY_MODES.get(instance.getClass());
+        if (!isCacheable(mode, plan)) {
+            return;
+        }
+        boolean byValue = mode == KeyMode.VALUE;
+        int hash = hash(instance, byValue);
+        Entry entry = new Entry(plan, valid);
+        synchronized (this) {
+            expungeCollected();
+            Key key = new Key(instance, byValue, hash, collected);
+            if (entries.replace(key, entry) != null) {
+                return;
+            }
+            if (entries.size() >= maximumSize && !evictFor(hash)) {
+                rejections.increment();
+                return;
+            }
+            entries.put(key, entry);
+            order.addLast(key);
+        }
+    }
+
+    /**
+     * Evicts the oldest result if the new instance is looked up more often, or moves it to the
+     * back of the queue otherwise.
+     *
+     * @return True if a result was evicted.
+     */
+    private boolean evictFor(int hash) {
+        Key victim;
+        while ((victim = order.peekFirst()) != null && !entries.containsKey(victim)) {
+            order.pollFirst();
+        }
+        if (victim == null) {
+            return true;
+        }
+        order.pollFirst();
+        if (sketch.frequency(hash) <= sketch.frequency(victim.hash)) {
+            order.addLast(victim);
+            return false;
+        }
+        entries.remove(victim);
+        evictions.increment();
+        return true;
+    }
+
+    /**
+     * Removes the results of collected instances. Their keys are dropped from the queue when
+     * they reach its head, or all at once if they pile up.
+     */
+    private void expungeCollected() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            entries.remove(reference);
+        }
+        if (order.size() > 2 * entries.size() + 64) {
+            order.removeIf(key -> !entries.containsKey(key));
+        }
+    }
+
+    private static boolean isCacheable(KeyMode mode, ValidationPlan plan) {
+        if (mode == KeyMode.NONE || plan.isTimeDependent() || plan.hasBlockingConstraints()) {
+            return false;
+        }
+        return mode != KeyMode.RECORD || !plan.hasCascades() && !plan.hasElementConstraints() && !plan.hasContainerFields();
+    }
+
+    private static int hash(Object instance, boolean byValue) {
+        return byValue ? instance.hashCode() : System.identityHashCode(instance);
+    }
+
+    private static boolean matches(Object instance, Object cached, boolean byValue) {
+        return instance == cached || (byValue && cached != null && instance.equals(cached));
+    }
+
+    /**
+     * Removes every cached result. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        order.clear();
+        while (collected.poll() != null) {
+            // Their entries are gone already.
+        }
+    }
+
+    /**
+     * @return The number of cached results, including those of instances collected since the
+     * cache was last written to.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return The number of lookups that returned a cached outcome.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups of cacheable instances that found no outcome.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The fraction of lookups that returned a cached outcome, or 0 if there were none.
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0L ? 0.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @return The number of results evicted to make room for another one.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of results not cached because the cache was full of results looked
+     * up more often.
+     */
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * How the instances of a class are keyed: not at all, by identity, by identity as a
+     * record not annotated with {@link Immutable}, or by value.
+     */
+    private enum KeyMode {
+        NONE, IDENTITY, RECORD, VALUE
+    }
+
+    /**
+     * The outcome of validating an instance, with the plan it was validated with.
+     */
+    private record Entry(ValidationPlan plan, boolean valid) {
+    }
+
+    /**
+     * The key of a cached result, holding its instance weakly. A key whose instance was
+     * collected is only equal to itself, so its entry can still be removed.
+     */
+    private static final class Key extends WeakReference<Object> {
+        private final boolean byValue;
+        private final int hash;
+
+        private Key(Object instance, boolean byValue, int hash, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.byValue = byValue;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            Object instance = get();
+            return obj instanceof Key key && instance != null && matches(instance, key.get(), byValue);
+        }
+    }
+
+    /**
+     * The key a lookup is made with, holding the instance strongly for the duration of the lookup.
+     */
+    private static final class Lookup {
+        private final Object instance;
+        private final boolean byValue;
+        private final int hash;
+
+        private Lookup(Object instance, boolean byValue, int hash) {
+            this.instance = instance;
+            this.byValue = byValue;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key key && matches(instance, key.get(), byValue);
+        }
+    }
+
+    /**
+     * A count-min sketch of lookup frequencies: each instance increments one saturating
+     * counter in each of {@value #DEPTH} rows, and its frequency is the lowest of them. Once
+     * ten times the maximum size of the cache has been counted, every counter is halved.
+     *
+     * <p>The counters are updated without synchronization. Concurrent lookups may lose an
+     * increment, which only makes the estimate slightly lower.</p>
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final long[] SEEDS = {0x97CB3127L, 0xB492B66FL, 0x9AE16A3BL, 0xCBF29CE4L};
+
+        private final int[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        private FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.min(Math.max(maximumSize, 16), 1 << 24) - 1) << 1;
+            this.counters = new int[width];
+            this.mask = width - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        private void increment(int hash) {
+            for (int row = 0; row < DEPTH; row++) {
+                int index = indexOf(hash, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                }
+            }
+            if (++additions >= sampleSize) {
+                halve();
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+            }
+            return frequency;
+        }
+
+        private void halve() {
+            additions = 0;
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>>= 1;
+            }
+        }
+
+        private int indexOf(int hash, int row) {
+            long mixed = (hash + SEEDS[row]) * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.revere.validation.column;
+
+/**
+ * Checks whole columns of primitive values against closed bounds and records the rows that
+ * fall outside them in a bitmap.
+ *
+ * <p>A row fails if its value is lower than {@code min} or greater than {@code max}, which
+ * are the same comparisons as the ones of {@link dev.revere.validation.constraints.impl.RangeConstraint},
+ * so a {@code NaN} value never fails. The failure of row {@code from + n} sets bit {@code n % 64}
+ * of word {@code firstWord + n / 64} of the bitmap; bits of passing rows are left untouched.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface ColumnKernel {
+
+    /**
+     * The system property that disables the Vector API kernel when set to {@code false}.
+     */
+    String VECTOR_PROPERTY = "dev.revere.validation.vector";
+
+    int check(double[] column, int from, int to, double min, double max, long[] bitmap, int firstWord);
+
+    int check(int[] column, int from, int to, int min, int max, long[] bitmap, int firstWord);
+
+    int check(long[] column, int from, int to, long min, long max, long[] bitmap, int firstWord);
+
+    /**
+     * @return The name of the kernel, for diagnostics.
+     */
+    String getName();
+
+    /**
+     * @return The kernel that checks one value at a time.
+     */
+    static ColumnKernel scalar() {
+        return ScalarColumnKernel.INSTANCE;
+    }
+
+    /**
+     * Returns the fastest kernel available in this JVM.
+     *
+     * <p>The Vector API kernel is used if the {@code jdk.incubator.vector} module is resolved,
+     * for example through {@code --add-modules jdk.incubator.vector}, the CPU has vector
+     * registers of at least two doubles and the {@value #VECTOR_PROPERTY} system property is
+     * not {@code false}. Otherwise the scalar kernel is used.</p>
+     *
+     * @return The preferred kernel.
+     */
+    static ColumnKernel preferred() {
+        return ScalarColumnKernel.PREFERRED;
+    }
+}
@@ -0,0 +1,263 @@
+package dev.revere.validation.column;
+
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.impl.MaxValueConstraint;
+import dev.revere.validation.constraints.impl.MinValueConstraint;
+import dev.revere.validation.constraints.impl.NotNullConstraint;
+import dev.revere.validation.constraints.impl.RangeConstraint;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Validates columns of numbers, such as the values of one field across many records, against
+ * the numeric constraints behind {@link dev.revere.validation.annotations.Range},
+ * {@link dev.revere.validation.annotations.MinValue} and
+ * {@link dev.revere.validation.annotations.MaxValue}.
+ *
+ * <p>The constraints are folded into one closed interval when the validator is created, and
+ * each column is then checked by a {@link ColumnKernel}, by default the Vector API kernel when
+ * it is available. The result is a bitmap with one bit per row, set for the rows that violate
+ * at least one of the constraints; a row fails exactly when {@link Constraint#isValid} of one
+ * of the constraints would be false for its value.</p>
+ *
+ * <p>Integer columns are compared exactly: the bounds are rounded inwards to the nearest
+ * integers, so that {@code long} values beyond 2<sup>53</sup> are not rounded to doubles.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ColumnValidator {
+    private static final int BUFFER_CHUNK_SIZE = 4096;
+    private static final double LONG_RANGE_END = 0x1p63;
+
+    private final ColumnKernel kernel;
+    private final double min;
+    private final double max;
+    private final boolean longEmpty;
+    private final long longMin;
+    private final long longMax;
+    private final boolean intEmpty;
+    private final int intMin;
+    private final int intMax;
+
+    private ColumnValidator(ColumnKernel kernel, double min, double max) {
+        this.kernel = kernel;
+        this.min = min;
+        this.max = max;
+        this.longEmpty = min >= LONG_RANGE_END || max < -LONG_RANGE_END || Math.ceil(min) > Math.floor(max);
+        this.longMin = (long) Math.ceil(min);
+        this.longMax = (long) Math.floor(max);
+        this.intEmpty = longEmpty || longMin > Integer.MAX_VALUE || longMax < Integer.MIN_VALUE;
+        this.intMin = (int) Math.max(longMin, Integer.MIN_VALUE);
+        this.intMax = (int) Math.min(longMax, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a validator for the given constraints that uses the {@link ColumnKernel#preferred()} kernel.
+     *
+     * @param constraints The constraints every value of a column must meet.
+     * @return The column validator.
+     * @throws IllegalArgumentException If a constraint is not a numeric constraint.
+     */
+    public static ColumnValidator of(Constraint<?>... constraints) {
+        return of(ColumnKernel.preferred(), constraints);
+    }
+
+    /**
+     * Creates a validator for the given constraints.
+     *
+     * <p>{@link RangeConstraint}, {@link MinValueConstraint} and {@link MaxValueConstraint} are
+     * supported; {@link NotNullConstraint} is always met by primitive values and is ignored.</p>
+     *
+     * @param kernel      The kernel to check the columns with.
+     * @param constraints The constraints every value of a column must meet.
+     * @return The column validator.
+     * @throws IllegalArgumentException If a constraint is not a numeric constraint.
+     */
+    public static ColumnValidator of(ColumnKernel kernel, Constraint<?>... constraints) {
+        double min = Double.NEGATIVE_INFINITY;
+        double max = Double.POSITIVE_INFINITY;
+        for (Constraint<?> constraint : constraints) {
+            if (constraint instanceof RangeConstraint range) {
+                min = lowerBound(min, range.getMin());
+                max = upperBound(max, range.getMax());
+            } else if (constraint instanceof MinValueConstraint minValue) {
+                min = lowerBound(min, minValue.getMinValue());
+            } else if (constraint instanceof MaxValueConstraint maxValue) {
+                max = upperBound(max, maxValue.getMaxValue());
+            } else if (!(constraint instanceof NotNullConstraint)) {
+                throw new IllegalArgumentException("Constraint " + constraint.getClass().getName() + " cannot be applied to a numeric column");
+            }
+        }
+        return new ColumnValidator(kernel, min, max);
+    }
+
+    /**
+     * A NaN bound never fails a value, as every comparison with it is false.
+     */
+    private static double lowerBound(double current, double bound) {
+        return Double.isNaN(bound) ? current : Math.max(current, bound);
+    }
+
+    private static double upperBound(double current, double bound) {
+        return Double.isNaN(bound) ? current : Math.min(current, bound);
+    }
+
+    public ColumnKernel getKernel() {
+        return kernel;
+    }
+
+    /**
+     * @return The lowest value that meets every constraint.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return The highest value that meets every constraint.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Computes the number of bitmap words needed for a column of the given number of rows.
+     *
+     * @param rows The number of rows.
+     * @return The number of {@code long} words holding one bit per row.
+     */
+    public static int bitmapLength(int rows) {
+        return (rows + Long.SIZE - 1) >>> 6;
+    }
+
+    /**
+     * Validates a whole column.
+     *
+     * @param column The column.
+     * @return The rows that violate a constraint.
+     */
+    public BitSet validate(double[] column) {
+        long[] bitmap = new long[bitmapLength(column.length)];
+        validate(column, 0, column.length, bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    public BitSet validate(int[] column) {
+        long[] bitmap = new long[bitmapLength(column.length)];
+        validate(column, 0, column.length, bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    public BitSet validate(long[] column) {
+        long[] bitmap = new long[bitmapLength(column.length)];
+        validate(column, 0, column.length, bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    public BitSet validate(DoubleBuffer column) {
+        long[] bitmap = new long[bitmapLength(column.remaining())];
+        validate(column, bitmap);
+        return BitSet.valueOf(bitmap);
+    }
+
+    /**
+     * Validates the rows {@code from} (inclusive) to {@code to} (exclusive) of a column without
+     * allocating.
+     *
+     * <p>Bit {@code n} of the bitmap is set if row {@code from + n} violates a constraint, and
+     * cleared otherwise. Words of the bitmap past the last row are left untouched.</p>
+     *
+     * @param column The column.
+     * @param from   The first row to validate.
+     * @param to     The row after the last row to validate.
+     * @param bitmap The bitmap to write the failures to, of at least {@link #bitmapLength} words.
+     * @return The number of rows that violate a constraint.
+     */
+    public int validate(double[] column, int from, int to, long[] bitmap) {
+        prepare(column.length, from, to, bitmap);
+        return kernel.check(column, from, to, min, max, bitmap, 0);
+    }
+
+    public int validate(int[] column, int from, int to, long[] bitmap) {
+        int rows = prepare(column.length, from, to, bitmap);
+        if (intEmpty) {
+            return failAll(rows, bitmap);
+        }
+        return kernel.check(column, from, to, intMin, intMax, bitmap, 0);
+    }
+
+    public int validate(long[] column, int from, int to, long[] bitmap) {
+        int rows = prepare(column.length, from, to, bitmap);
+        if (longEmpty) {
+            return failAll(rows, bitmap);
+        }
+        return kernel.check(column, from, to, longMin, longMax, bitmap, 0);
+    }
+
+    /**
+     * Validates the remaining values of a buffer, from its position to its limit, without
+     * changing its position.
+     *
+     * <p>Buffers backed by an array are checked in place. The values of other buffers, such
+     * as direct or memory-mapped ones, are copied to the kernel in chunks of
+     * {@value #BUFFER_CHUNK_SIZE}.</p>
+     *
+     * @param column The column.
+     * @param bitmap The bitmap to write the failures to, of at least {@link #bitmapLength} words.
+     * @return The number of rows that violate a constraint.
+     * @see #validate(double[], int, int, long[])
+     */
+    public int validate(DoubleBuffer column, long[] bitmap) {
+        int position = column.position();
+        int rows = column.remaining();
+        if (column.hasArray()) {
+            int from = column.arrayOffset() + position;
+            return validate(column.array(), from, from + rows, bitmap);
+        }
+
+        prepare(rows, 0, rows, bitmap);
+        double[] chunk = new double[Math.min(rows, BUFFER_CHUNK_SIZE)];
+        int count = 0;
+        for (int row = 0; row < rows; row += BUFFER_CHUNK_SIZE) {
+            int length = Math.min(BUFFER_CHUNK_SIZE, rows - row);
+            column.get(position + row, chunk, 0, length);
+            count += kernel.check(chunk, 0, length, min, max, bitmap, row >>> 6);
+        }
+        return count;
+    }
+
+    /**
+     * Checks the row range and clears the words of the bitmap it covers.
+     *
+     * @return The number of rows.
+     */
+    private static int prepare(int columnLength, int from, int to, long[] bitmap) {
+        if (from < 0 || to > columnLength || from > to) {
+            throw new IndexOutOfBoundsException("Rows " + from + " to " + to + " out of bounds for a column of " + columnLength);
+        }
+
+        int rows = to - from;
+        int words = bitmapLength(rows);
+        if (bitmap.length < words) {
+            throw new IllegalArgumentException("Bitmap of " + bitmap.length + " words cannot hold " + rows + " rows");
+        }
+        Arrays.fill(bitmap, 0, words, 0L);
+        return rows;
+    }
+
+    /**
+     * Marks every row as failed, for integer columns whose bounds admit no integer.
+     */
+    private static int failAll(int rows, long[] bitmap) {
+        int fullWords = rows >>> 6;
+        Arrays.fill(bitmap, 0, fullWords, -1L);
+        if ((rows & 63) != 0) {
+            bitmap[fullWords] = (1L << (rows & 63)) - 1;
+        }
+        return rows;
+    }
+}
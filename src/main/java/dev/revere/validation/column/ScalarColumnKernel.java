@@ -0,0 +1,120 @@
+package dev.revere.validation.column;
+
+/**
+ * The kernel that checks one value at a time, used when the Vector API is not available.
+ *
+ * <p>Integer values are checked without branches, as a single unsigned comparison of their
+ * offset from the lower bound with the width of the interval, so that the speed does not
+ * depend on how many rows fail. Doubles are compared with branches, which predict well on
+ * the mostly valid columns this is meant for and keep the comparisons of {@code NaN} intact.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ScalarColumnKernel implements ColumnKernel {
+    static final ScalarColumnKernel INSTANCE = new ScalarColumnKernel();
+    static final ColumnKernel PREFERRED = loadPreferred();
+
+    private ScalarColumnKernel() {}
+
+    /**
+     * Loads the Vector API kernel by name, so that this class never links against the
+     * incubator module when it is not resolved.
+     */
+    private static ColumnKernel loadPreferred() {
+        if ("false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY))
+                || ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return INSTANCE;
+        }
+        try {
+            Class<?> kernelClass = Class.forName("dev.revere.validation.column.VectorColumnKernel");
+            ColumnKernel kernel = (ColumnKernel) kernelClass.getDeclaredConstructor().newInstance();
+            return kernelClass.getMethod("isAccelerated").invoke(kernel) == Boolean.TRUE ? kernel : INSTANCE;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return INSTANCE;
+        }
+    }
+
+    @Override
+    public int check(double[] column, int from, int to, double min, double max, long[] bitmap, int firstWord) {
+        int count = 0;
+        for (int row = 0; row < to - from; row += Long.SIZE) {
+            int end = Math.min(to, from + row + Long.SIZE);
+            long word = 0L;
+            for (int i = from + row; i < end; i++) {
+                double value = column[i];
+                if (value < min || value > max) {
+                    word |= 1L << (i - from - row);
+                }
+            }
+            if (word != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= word;
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int check(int[] column, int from, int to, int min, int max, long[] bitmap, int firstWord) {
+        if (min > max) {
+            return failAll(to - from, bitmap, firstWord);
+        }
+
+        long range = Integer.toUnsignedLong(max - min);
+        int count = 0;
+        for (int row = 0; row < to - from; row += Long.SIZE) {
+            int end = Math.min(to, from + row + Long.SIZE);
+            long word = 0L;
+            for (int i = from + row; i < end; i++) {
+                long offset = Integer.toUnsignedLong(column[i] - min);
+                word |= (range - offset) >>> 63 << (i - from - row);
+            }
+            if (word != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= word;
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int check(long[] column, int from, int to, long min, long max, long[] bitmap, int firstWord) {
+        if (min > max) {
+            return failAll(to - from, bitmap, firstWord);
+        }
+
+        long range = max - min;
+        int count = 0;
+        for (int row = 0; row < to - from; row += Long.SIZE) {
+            int end = Math.min(to, from + row + Long.SIZE);
+            long word = 0L;
+            for (int i = from + row; i < end; i++) {
+                long offset = column[i] - min;
+                word |= ((~range & offset) | (~(range ^ offset) & (range - offset))) >>> 63 << (i - from - row);
+            }
+            if (word != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= word;
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Marks every row as failed, for bounds that admit no value.
+     */
+    private static int failAll(int rows, long[] bitmap, int firstWord) {
+        for (int row = 0; row < rows; row += Long.SIZE) {
+            int bits = Math.min(Long.SIZE, rows - row);
+            bitmap[firstWord + (row >>> 6)] |= bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        }
+        return rows;
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+}
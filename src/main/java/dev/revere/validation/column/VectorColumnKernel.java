@@ -0,0 +1,123 @@
+package dev.revere.validation.column;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernel that checks as many values per instruction as the preferred vector species of
+ * the CPU holds, through the incubating Vector API.
+ *
+ * <p>Each vector of values is compared against both bounds and the resulting lane mask is
+ * written to the bitmap as it is. As the number of lanes is a power of two, the rows of one
+ * vector never straddle two bitmap words. The last, partial vector of a column is loaded
+ * with a lane mask instead of falling back to scalar code.</p>
+ *
+ * <p>This class is only loaded by {@link ColumnKernel#preferred()} once the
+ * {@code jdk.incubator.vector} module is known to be resolved.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class VectorColumnKernel implements ColumnKernel {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * @return True if a vector holds more than one double, so that this kernel is faster than the scalar one.
+     */
+    public boolean isAccelerated() {
+        return DOUBLES.length() > 1;
+    }
+
+    @Override
+    public int check(double[] column, int from, int to, double min, double max, long[] bitmap, int firstWord) {
+        int length = to - from;
+        int lanes = DOUBLES.length();
+        int bound = DOUBLES.loopBound(length);
+        int count = 0;
+        int row = 0;
+        for (; row < bound; row += lanes) {
+            DoubleVector values = DoubleVector.fromArray(DOUBLES, column, from + row);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        if (row < length) {
+            VectorMask<Double> inRange = DOUBLES.indexInRange(row, length);
+            DoubleVector values = DoubleVector.fromArray(DOUBLES, column, from + row, inRange);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).and(inRange).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int check(int[] column, int from, int to, int min, int max, long[] bitmap, int firstWord) {
+        int length = to - from;
+        int lanes = INTS.length();
+        int bound = INTS.loopBound(length);
+        int count = 0;
+        int row = 0;
+        for (; row < bound; row += lanes) {
+            IntVector values = IntVector.fromArray(INTS, column, from + row);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        if (row < length) {
+            VectorMask<Integer> inRange = INTS.indexInRange(row, length);
+            IntVector values = IntVector.fromArray(INTS, column, from + row, inRange);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).and(inRange).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int check(long[] column, int from, int to, long min, long max, long[] bitmap, int firstWord) {
+        int length = to - from;
+        int lanes = LONGS.length();
+        int bound = LONGS.loopBound(length);
+        int count = 0;
+        int row = 0;
+        for (; row < bound; row += lanes) {
+            LongVector values = LongVector.fromArray(LONGS, column, from + row);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        if (row < length) {
+            VectorMask<Long> inRange = LONGS.indexInRange(row, length);
+            LongVector values = LongVector.fromArray(LONGS, column, from + row, inRange);
+            long failures = values.compare(VectorOperators.LT, min).or(values.compare(VectorOperators.GT, max)).and(inRange).toLong();
+            if (failures != 0L) {
+                bitmap[firstWord + (row >>> 6)] |= failures << (row & 63);
+                count += Long.bitCount(failures);
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + DOUBLES.vectorBitSize();
+    }
+}
@@ -0,0 +1,18 @@
+package dev.revere.validation.compiler;
+
+import dev.revere.validation.exceptions.ConstraintViolationException;
+
+/**
+ * A validator generated for a single class that replaces walking its validation plan.
+ *
+ * <p>Implementations read the constrained fields directly and must report exactly the
+ * same violations, in the same order, as the {@link dev.revere.validation.ConstraintProcessor}
+ * would when interpreting the plan.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface CompiledValidator {
+    void validate(Object instance) throws ConstraintViolationException;
+}
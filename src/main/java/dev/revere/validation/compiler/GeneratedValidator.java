@@ -0,0 +1,35 @@
+package dev.revere.validation.compiler;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link CompiledValidator} generated at compile time by the validation annotation
+ * processor.
+ *
+ * <p>The {@link dev.revere.validation.ConstraintProcessor} looks up a class named after the
+ * validated class with a {@code Validator} suffix and only uses it if it carries this marker
+ * for the validated class and none of the listed annotations has a factory registered at
+ * runtime, which the generated code would not know about.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GeneratedValidator {
+    /**
+     * @return The class validated by the annotated validator.
+     */
+    Class<?> value();
+
+    /**
+     * @return The names of every runtime annotation type found on the fields of the validated
+     * class. Names are used instead of classes so that annotations missing at runtime do not
+     * prevent reading the marker.
+     */
+    String[] annotations() default {};
+}
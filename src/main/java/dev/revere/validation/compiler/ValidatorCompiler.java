@@ -0,0 +1,390 @@
+package dev.revere.validation.compiler;
+
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+import dev.revere.validation.constraints.impl.*;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.ValidationPlan;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Generates a {@link CompiledValidator} for a validation plan as a hidden class.
+ *
+ * <p>The generated class is defined as a nestmate of the validated class, so it reads the
+ * constrained fields with plain field instructions, and the components of a record with a
+ * direct call to their accessor. The checks of the built-in length, size,
+ * value and range constraints are emitted inline; every other constraint, including custom
+ * ones, is called through {@link Constraint#validate} on a constant receiver. When an inline
+ * check fails, the original constraint is called so that the thrown exception carries the
+ * same message as in the interpreted path.</p>
+ *
+ * <p>Primitive fields are loaded without boxing and checked through the primitive
+ * specialization their {@link FieldPlan} chose for each constraint; the value is only boxed
+ * to call {@link Constraint#validate} once a check has failed. Numeric constraints on
+ * reference fields are called through their own class, so that integers and decimals are
+ * compared exactly.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ValidatorCompiler {
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String STRING = Type.getInternalName(String.class);
+    private static final String CLASS = Type.getInternalName(Class.class);
+    private static final String NUMBER = Type.getInternalName(Number.class);
+    private static final String CONSTRAINT = Type.getInternalName(Constraint.class);
+    private static final String COMPILED_VALIDATOR = Type.getInternalName(CompiledValidator.class);
+    private static final String VIOLATION = Type.getInternalName(ConstraintViolationException.class);
+    private static final String CONSTRAINT_DESCRIPTOR = Type.getDescriptor(Constraint.class);
+    private static final String CLASS_DESCRIPTOR = Type.getDescriptor(Class.class);
+
+    private static final int INSTANCE = 2;
+    private static final int VALUE = 3;
+    private static final int SCRATCH = 4;
+
+    private ValidatorCompiler() {}
+
+    /**
+     * Compiles the given plan into a validator.
+     *
+     * <p>Only a class that grants no private access to this library is left to the
+     * interpreter. A failure to generate, define or instantiate the validator is a bug of the
+     * compiler and is thrown, so that the caller can report it rather than silently falling
+     * back to the interpreter.</p>
+     *
+     * @param plan The plan to compile.
+     * @return The compiled validator, or null if the class cannot host a generated validator,
+     * for example because its package is not open to this library.
+     * @throws IllegalStateException If the generated validator cannot be instantiated.
+     */
+    public static CompiledValidator compile(ValidationPlan plan) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(plan.getType(), MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+        if (!lookup.hasFullPrivilegeAccess()) {
+            return null;
+        }
+
+        List<Object> classData = new ArrayList<>();
+        byte[] bytes = generate(plan, classData);
+        try {
+            MethodHandles.Lookup validatorLookup = lookup
+                    .defineHiddenClassWithClassData(bytes, List.copyOf(classData), true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = validatorLookup.findConstructor(validatorLookup.lookupClass(), MethodType.methodType(void.class));
+            return (CompiledValidator) constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot instantiate the compiled validator of " + plan.getType().getName(), e);
+        }
+    }
+
+    private static byte[] generate(ValidationPlan plan, List<Object> classData) {
+        String owner = Type.getInternalName(plan.getType());
+        String name = owner + "$$Validator";
+
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                return OBJECT;
+            }
+        };
+        writer.visit(V21, ACC_FINAL | ACC_SUPER, name, null, OBJECT, new String[]{COMPILED_VALIDATOR});
+
+        MethodVisitor constructor = writer.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC, "validate", "(Ljava/lang/Object;)V", null, new String[]{VIOLATION});
+        method.visitCode();
+        method.visitVarInsn(ALOAD, 1);
+        method.visitTypeInsn(CHECKCAST, owner);
+        method.visitVarInsn(ASTORE, INSTANCE);
+        boolean terminated = false;
+        for (FieldPlan field : plan.getFields()) {
+            if (field.getConstraintCount() == 0) {
+                continue;
+            }
+            if (field.isPrimitive()) {
+                terminated = emitPrimitiveField(writer, method, name, owner, field, classData);
+                if (terminated) {
+                    break;
+                }
+                continue;
+            }
+            emitField(writer, method, name, owner, field, classData);
+        }
+        if (!terminated) {
+            method.visitInsn(RETURN);
+        }
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        emitClassInitializer(writer, name, classData);
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void emitField(ClassWriter writer, MethodVisitor method, String name, String owner, FieldPlan field, List<Object> classData) {
+        Label next = new Label();
+        Label present = new Label();
+
+        emitLoad(method, owner, field.getField());
+        method.visitVarInsn(ASTORE, VALUE);
+        method.visitVarInsn(ALOAD, VALUE);
+        method.visitJumpInsn(IFNONNULL, present);
+        if (field.isNotNull()) {
+            throwViolation(method, "Field " + field.getName() + " cannot be null");
+        } else {
+            method.visitJumpInsn(GOTO, next);
+        }
+        method.visitLabel(present);
+
+        for (int i = 0; i < field.getConstraintCount(); i++) {
+            Constraint<?> constraint = field.getConstraint(i);
+            String constraintField = addConstant(writer, classData, constraint, CONSTRAINT_DESCRIPTOR);
+            if (field.requiresTypeCheck(i)) {
+                Label compatible = new Label();
+                String typeField = addConstant(writer, classData, constraint.getType(), CLASS_DESCRIPTOR);
+                method.visitFieldInsn(GETSTATIC, name, typeField, CLASS_DESCRIPTOR);
+                method.visitVarInsn(ALOAD, VALUE);
+                method.visitMethodInsn(INVOKEVIRTUAL, CLASS, "isInstance", "(Ljava/lang/Object;)Z", false);
+                method.visitJumpInsn(IFNE, compatible);
+                throwViolation(method, "Field type mismatch for field " + field.getName());
+                method.visitLabel(compatible);
+            }
+            emitCheck(method, name, constraintField, constraint);
+        }
+        method.visitLabel(next);
+    }
+
+    /**
+     * Loads the value of a field. Record components are read through their accessor, as in
+     * the interpreted path.
+     */
+    private static void emitLoad(MethodVisitor method, String owner, Field reflected) {
+        String descriptor = Type.getDescriptor(reflected.getType());
+        if (Modifier.isStatic(reflected.getModifiers())) {
+            method.visitFieldInsn(GETSTATIC, owner, reflected.getName(), descriptor);
+            return;
+        }
+        method.visitVarInsn(ALOAD, INSTANCE);
+        if (reflected.getDeclaringClass().isRecord()) {
+            method.visitMethodInsn(INVOKEVIRTUAL, owner, reflected.getName(), "()" + descriptor, false);
+        } else {
+            method.visitFieldInsn(GETFIELD, owner, reflected.getName(), descriptor);
+        }
+    }
+
+    /**
+     * Emits the checks of a primitive field, whose value is loaded once into a local.
+     *
+     * @return True if a constraint can never accept the field's value, in which case the
+     * emitted code always throws and nothing may be emitted after it.
+     */
+    private static boolean emitPrimitiveField(ClassWriter writer, MethodVisitor method, String name, String owner, FieldPlan field, List<Object> classData) {
+        Field reflected = field.getField();
+        Type type = Type.getType(reflected.getType());
+        emitLoad(method, owner, reflected);
+        method.visitVarInsn(type.getOpcode(ISTORE), SCRATCH);
+
+        for (int i = 0; i < field.getConstraintCount(); i++) {
+            if (i == field.getNotNullIndex()) {
+                continue;
+            }
+            if (field.isMismatched(i)) {
+                throwViolation(method, "Field type mismatch for field " + field.getName());
+                return true;
+            }
+
+            Label passed = new Label();
+            String constraintField = addConstant(writer, classData, field.getConstraint(i), CONSTRAINT_DESCRIPTOR);
+            Class<?> specialization = field.getSpecialization(i);
+            if (specialization != null) {
+                Type target = specialization == IntConstraint.class ? Type.INT_TYPE
+                        : specialization == LongConstraint.class ? Type.LONG_TYPE : Type.DOUBLE_TYPE;
+                method.visitFieldInsn(GETSTATIC, name, constraintField, CONSTRAINT_DESCRIPTOR);
+                method.visitTypeInsn(CHECKCAST, Type.getInternalName(specialization));
+                method.visitVarInsn(type.getOpcode(ILOAD), SCRATCH);
+                emitWidening(method, type, target);
+                method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(specialization), "isValid",
+                        "(" + target.getDescriptor() + ")Z", true);
+                method.visitJumpInsn(IFNE, passed);
+            }
+            method.visitFieldInsn(GETSTATIC, name, constraintField, CONSTRAINT_DESCRIPTOR);
+            method.visitVarInsn(type.getOpcode(ILOAD), SCRATCH);
+            emitBoxing(method, type);
+            method.visitMethodInsn(INVOKEINTERFACE, CONSTRAINT, "validate", "(Ljava/lang/Object;)V", true);
+            method.visitLabel(passed);
+        }
+        return false;
+    }
+
+    /**
+     * Widens a primitive value on the stack to the parameter type of a specialization.
+     */
+    private static void emitWidening(MethodVisitor method, Type from, Type to) {
+        if (to.getSort() == Type.LONG && from.getSort() != Type.LONG) {
+            method.visitInsn(I2L);
+        } else if (to.getSort() == Type.DOUBLE) {
+            switch (from.getSort()) {
+                case Type.LONG -> method.visitInsn(L2D);
+                case Type.FLOAT -> method.visitInsn(F2D);
+                case Type.DOUBLE -> {
+                }
+                default -> method.visitInsn(I2D);
+            }
+        }
+    }
+
+    private static void emitBoxing(MethodVisitor method, Type type) {
+        Type wrapper = Type.getType(MethodType.methodType(classOf(type)).wrap().returnType());
+        method.visitMethodInsn(INVOKESTATIC, wrapper.getInternalName(), "valueOf",
+                "(" + type.getDescriptor() + ")" + wrapper.getDescriptor(), false);
+    }
+
+    private static Class<?> classOf(Type type) {
+        return switch (type.getSort()) {
+            case Type.BOOLEAN -> boolean.class;
+            case Type.CHAR -> char.class;
+            case Type.BYTE -> byte.class;
+            case Type.SHORT -> short.class;
+            case Type.INT -> int.class;
+            case Type.FLOAT -> float.class;
+            case Type.LONG -> long.class;
+            default -> double.class;
+        };
+    }
+
+    /**
+     * Emits the check for a single constraint. Built-in constraints with simple bounds are
+     * checked inline and only call the constraint when the check fails; every other
+     * constraint is always called.
+     */
+    private static void emitCheck(MethodVisitor method, String name, String constraintField, Constraint<?> constraint) {
+        Label passed = new Label();
+        Label failed = new Label();
+        Class<?> type = constraint.getClass();
+
+        if (type == NotNullConstraint.class) {
+            return;
+        } else if (type == MinLengthConstraint.class) {
+            emitLength(method);
+            method.visitLdcInsn(((MinLengthConstraint) constraint).getMinLength());
+            method.visitJumpInsn(IF_ICMPGE, passed);
+        } else if (type == MaxLengthConstraint.class) {
+            emitLength(method);
+            method.visitLdcInsn(((MaxLengthConstraint) constraint).getMaxLength());
+            method.visitJumpInsn(IF_ICMPLE, passed);
+        } else if (type == SizeConstraint.class) {
+            SizeConstraint size = (SizeConstraint) constraint;
+            emitLength(method);
+            method.visitVarInsn(ISTORE, SCRATCH);
+            method.visitVarInsn(ILOAD, SCRATCH);
+            method.visitLdcInsn(size.getMin());
+            method.visitJumpInsn(IF_ICMPLT, failed);
+            method.visitVarInsn(ILOAD, SCRATCH);
+            method.visitLdcInsn(size.getMax());
+            method.visitJumpInsn(IF_ICMPLE, passed);
+        } else if (type == MinValueConstraint.class || type == MaxValueConstraint.class) {
+            emitExactCheck(method, name, constraintField, type, NUMBER);
+            method.visitJumpInsn(IFNE, passed);
+        } else if (type == RangeConstraint.class) {
+            emitExactCheck(method, name, constraintField, type, OBJECT);
+            method.visitJumpInsn(IFNE, passed);
+        }
+
+        method.visitLabel(failed);
+        method.visitFieldInsn(GETSTATIC, name, constraintField, CONSTRAINT_DESCRIPTOR);
+        method.visitVarInsn(ALOAD, VALUE);
+        method.visitMethodInsn(INVOKEINTERFACE, CONSTRAINT, "validate", "(Ljava/lang/Object;)V", true);
+        method.visitLabel(passed);
+    }
+
+    private static void emitLength(MethodVisitor method) {
+        method.visitVarInsn(ALOAD, VALUE);
+        method.visitTypeInsn(CHECKCAST, STRING);
+        method.visitMethodInsn(INVOKEVIRTUAL, STRING, "length", "()I", false);
+    }
+
+    /**
+     * Calls {@code isValid} on the constraint's own class, which compares the value in its
+     * own numeric type rather than as a double.
+     */
+    private static void emitExactCheck(MethodVisitor method, String name, String constraintField, Class<?> type, String parameterType) {
+        String constraintType = Type.getInternalName(type);
+        method.visitFieldInsn(GETSTATIC, name, constraintField, CONSTRAINT_DESCRIPTOR);
+        method.visitTypeInsn(CHECKCAST, constraintType);
+        method.visitVarInsn(ALOAD, VALUE);
+        if (!parameterType.equals(OBJECT)) {
+            method.visitTypeInsn(CHECKCAST, parameterType);
+        }
+        method.visitMethodInsn(INVOKEVIRTUAL, constraintType, "isValid", "(L" + parameterType + ";)Z", false);
+    }
+
+    private static void throwViolation(MethodVisitor method, String message) {
+        method.visitTypeInsn(NEW, VIOLATION);
+        method.visitInsn(DUP);
+        method.visitLdcInsn(message);
+        method.visitMethodInsn(INVOKESPECIAL, VIOLATION, "<init>", "(Ljava/lang/String;)V", false);
+        method.visitInsn(ATHROW);
+    }
+
+    /**
+     * Registers a value passed to the hidden class as class data and declares the static
+     * final field it is loaded into, so the JIT can treat it as a constant.
+     */
+    private static String addConstant(ClassWriter writer, List<Object> classData, Object value, String descriptor) {
+        String fieldName = "c" + classData.size();
+        classData.add(value);
+        writer.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, fieldName, descriptor, null, null).visitEnd();
+        return fieldName;
+    }
+
+    private static void emitClassInitializer(ClassWriter writer, String name, List<Object> classData) {
+        MethodVisitor method = writer.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        method.visitCode();
+        method.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup",
+                "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+        method.visitLdcInsn("_");
+        method.visitLdcInsn(Type.getType(List.class));
+        method.visitMethodInsn(INVOKESTATIC, "java/lang/invoke/MethodHandles", "classData",
+                "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;", false);
+        method.visitTypeInsn(CHECKCAST, Type.getInternalName(List.class));
+        method.visitVarInsn(ASTORE, 0);
+        for (int i = 0; i < classData.size(); i++) {
+            String descriptor = classData.get(i) instanceof Class<?> ? CLASS_DESCRIPTOR : CONSTRAINT_DESCRIPTOR;
+            method.visitVarInsn(ALOAD, 0);
+            method.visitLdcInsn(i);
+            method.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(List.class), "get", "(I)Ljava/lang/Object;", true);
+            method.visitTypeInsn(CHECKCAST, Type.getType(descriptor).getInternalName());
+            method.visitFieldInsn(PUTSTATIC, name, "c" + i, descriptor);
+        }
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+    }
+}
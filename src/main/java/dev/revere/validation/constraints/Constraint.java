@@ -10,4 +10,52 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
 public interface Constraint<T> {
     void validate(T value) throws ConstraintViolationException;
     Class<T> getType();
+
+    /**
+     * Checks the value without throwing.
+     *
+     * <p>The default implementation calls {@link #validate} and catches the exception. Constraints
+     * should override it, together with {@link #getMessage}, so that collecting violations does
+     * not create any exceptions.</p>
+     *
+     * @param value The value to check.
+     * @return True if the value meets the constraint.
+     */
+    default boolean isValid(T value) {
+        try {
+            validate(value);
+            return true;
+        } catch (ConstraintViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Describes why the value does not meet the constraint.
+     *
+     * @param value The value that failed {@link #isValid}.
+     * @return The violation message, or null if the value meets the constraint.
+     */
+    default String getMessage(T value) {
+        try {
+            validate(value);
+            return null;
+        } catch (ConstraintViolationException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Tells whether checking a value may block, for example on a cache or database lookup.
+     *
+     * <p>Blocking constraints are checked on virtual threads by
+     * {@link dev.revere.validation.ValidationEngine#validateAsync}, concurrently with the
+     * blocking constraints of the other fields. All other constraints are checked on the
+     * calling thread. Synchronous validation checks every constraint on the calling thread.</p>
+     *
+     * @return True if checking a value may block. The default is false.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
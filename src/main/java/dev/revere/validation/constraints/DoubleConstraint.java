@@ -0,0 +1,23 @@
+package dev.revere.validation.constraints;
+
+/**
+ * A numeric constraint that can check a primitive {@code double} directly.
+ *
+ * <p>Primitive {@code double} and {@code float} fields and the elements of {@code double[]}
+ * fields are checked through this interface without boxing. Integer values are checked
+ * through {@link IntConstraint} and {@link LongConstraint}, which compare them exactly.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface DoubleConstraint {
+
+    /**
+     * Checks the value without throwing or allocating.
+     *
+     * @param value The value to check.
+     * @return True if the value meets the constraint.
+     */
+    boolean isValid(double value);
+}
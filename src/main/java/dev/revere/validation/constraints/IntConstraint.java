@@ -0,0 +1,25 @@
+package dev.revere.validation.constraints;
+
+/**
+ * A numeric constraint that can check a primitive {@code int} directly and exactly.
+ *
+ * <p>Primitive {@code int}, {@code short} and {@code byte} fields and the elements of
+ * {@code int[]} fields are checked through this interface, without boxing and without
+ * converting the value to {@code double}. A {@code char} field is not checked through it: its
+ * value is a {@link Character}, which is not a {@link Number}, so numeric constraints never
+ * accept it.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface IntConstraint {
+
+    /**
+     * Checks the value without throwing or allocating.
+     *
+     * @param value The value to check.
+     * @return True if the value meets the constraint.
+     */
+    boolean isValid(int value);
+}
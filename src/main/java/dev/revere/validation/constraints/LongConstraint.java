@@ -0,0 +1,23 @@
+package dev.revere.validation.constraints;
+
+/**
+ * A numeric constraint that can check a primitive {@code long} directly and exactly.
+ *
+ * <p>Primitive {@code long} fields and the elements of {@code long[]} fields are checked
+ * through this interface, without boxing and without converting the value to
+ * {@code double}, which would round values beyond 2<sup>53</sup>.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface LongConstraint {
+
+    /**
+     * Checks the value without throwing or allocating.
+     *
+     * @param value The value to check.
+     * @return True if the value meets the constraint.
+     */
+    boolean isValid(long value);
+}
@@ -0,0 +1,122 @@
+package dev.revere.validation.constraints;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lower or upper bound given as a {@code double}, compared exactly against values of any
+ * numeric type.
+ *
+ * <p>Comparing a {@code long} or a {@link BigDecimal} with a bound by converting the value to
+ * {@code double} rounds it, so a value just past the bound can pass. A bound therefore keeps
+ * its integer form, the closest integer on the passing side, and its exact decimal form, both
+ * computed once, and compares each value in its own type. Doubles keep the comparison of the
+ * original constraints: a {@code NaN} value or bound never fails.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class NumericBound {
+    private static final double LONG_RANGE_END = 0x1p63;
+
+    private static final byte COMPARE = 0;
+    private static final byte ALL = 1;
+    private static final byte NONE = 2;
+
+    private final double value;
+    private final boolean lower;
+    private final byte longMode;
+    private final long longValue;
+    private final byte decimalMode;
+    private final BigDecimal decimalValue;
+
+    private NumericBound(double value, boolean lower) {
+        this.value = value;
+        this.lower = lower;
+        if (Double.isNaN(value)) {
+            this.longMode = ALL;
+            this.decimalMode = ALL;
+        } else if (value >= LONG_RANGE_END) {
+            this.longMode = lower ? NONE : ALL;
+            this.decimalMode = Double.isInfinite(value) ? longMode : COMPARE;
+        } else if (lower ? value <= -LONG_RANGE_END : value < -LONG_RANGE_END) {
+            this.longMode = lower ? ALL : NONE;
+            this.decimalMode = Double.isInfinite(value) ? longMode : COMPARE;
+        } else {
+            this.longMode = COMPARE;
+            this.decimalMode = COMPARE;
+        }
+        this.longValue = longMode == COMPARE ? (long) (lower ? Math.ceil(value) : Math.floor(value)) : 0L;
+        this.decimalValue = decimalMode == COMPARE ? new BigDecimal(value) : null;
+    }
+
+    /**
+     * @param value The smallest value that passes.
+     * @return The inclusive lower bound.
+     */
+    public static NumericBound lower(double value) {
+        return new NumericBound(value, true);
+    }
+
+    /**
+     * @param value The largest value that passes.
+     * @return The inclusive upper bound.
+     */
+    public static NumericBound upper(double value) {
+        return new NumericBound(value, false);
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public boolean test(int value) {
+        return test((long) value);
+    }
+
+    public boolean test(long value) {
+        if (longMode != COMPARE) {
+            return longMode == ALL;
+        }
+        return lower ? value >= longValue : value <= longValue;
+    }
+
+    public boolean test(double value) {
+        return lower ? !(value < this.value) : !(value > this.value);
+    }
+
+    public boolean test(BigDecimal value) {
+        if (decimalMode != COMPARE) {
+            return decimalMode == ALL;
+        }
+        int comparison = value.compareTo(decimalValue);
+        return lower ? comparison >= 0 : comparison <= 0;
+    }
+
+    /**
+     * Compares a value in its own type: integral types as {@code long}, {@link BigDecimal} and
+     * {@link BigInteger} as decimals and every other number as {@code double}.
+     *
+     * @param value The non-null value.
+     * @return True if the value is within the bound.
+     */
+    public boolean test(Number value) {
+        if (value instanceof Double) {
+            return test(value.doubleValue());
+        }
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof AtomicInteger || value instanceof AtomicLong) {
+            return test(value.longValue());
+        }
+        if (value instanceof BigDecimal decimal) {
+            return test(decimal);
+        }
+        if (value instanceof BigInteger integer) {
+            return test(new BigDecimal(integer));
+        }
+        return test(value.doubleValue());
+    }
+}
@@ -0,0 +1,60 @@
+package dev.revere.validation.constraints;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * A process-wide cache of compiled regular expressions.
+ *
+ * <p>Constraints compile their expressions through this cache, so identical expressions and
+ * flags used on different classes share a single {@link Pattern}. The cache is bounded: once
+ * it holds {@link #MAX_SIZE} expressions, further expressions are compiled without being
+ * cached, which is still correct since each constraint keeps its own reference.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class PatternCache {
+    public static final int MAX_SIZE = 1024;
+
+    private static final ConcurrentMap<Key, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
+    private PatternCache() {}
+
+    /**
+     * Returns the compiled form of a regular expression.
+     *
+     * @param regex The regular expression.
+     * @param flags The match flags, as accepted by {@link Pattern#compile(String, int)}.
+     * @return The shared compiled pattern.
+     * @throws java.util.regex.PatternSyntaxException If the expression is invalid.
+     */
+    public static Pattern get(String regex, int flags) {
+        Key key = new Key(regex, flags);
+        Pattern pattern = PATTERNS.get(key);
+        if (pattern != null) {
+            return pattern;
+        }
+
+        if (PATTERNS.size() >= MAX_SIZE) {
+            return Pattern.compile(regex, flags);
+        }
+        return PATTERNS.computeIfAbsent(key, k -> Pattern.compile(k.regex(), k.flags()));
+    }
+
+    /**
+     * @return The number of cached expressions.
+     */
+    public static int size() {
+        return PATTERNS.size();
+    }
+
+    private record Key(String regex, int flags) {
+        private Key {
+            Objects.requireNonNull(regex, "regex");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.revere.validation.constraints;
+
+import java.time.*;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Objects;
+
+/**
+ * The current time as seen by the date constraints, read from a {@link Clock}.
+ *
+ * <p>The current date and zone offset of the clock's zone are computed once and shared by
+ * every constraint using this time source, together with the instant until which they stay
+ * valid: the next midnight or the next offset transition, whichever comes first. Comparing a
+ * value with the current time then costs one read of the clock and a comparison of epoch
+ * days or epoch seconds, without creating {@code LocalDate.now()} on every check. The cached
+ * date is refreshed by the first check past its validity, so constraints built from a time
+ * source never keep a stale date.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class TimeSource {
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final TimeSource SYSTEM = new TimeSource(Clock.systemDefaultZone());
+
+    private final Clock clock;
+    private volatile Day day;
+
+    private TimeSource(Clock clock) {
+        this.clock = clock;
+        this.day = computeDay(clock.millis());
+    }
+
+    /**
+     * @return The time source of the system clock in the default time zone.
+     */
+    public static TimeSource system() {
+        return SYSTEM;
+    }
+
+    /**
+     * @param clock The clock to read the current time from.
+     * @return A new time source for the clock.
+     */
+    public static TimeSource of(Clock clock) {
+        Objects.requireNonNull(clock, "Clock cannot be null");
+        return new TimeSource(clock);
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return The current date in the clock's zone, as an epoch day.
+     */
+    public long today() {
+        return currentDay(clock.millis()).epochDay;
+    }
+
+    /**
+     * Compares a date or date-time with the current time.
+     *
+     * <p>Dates, such as {@link LocalDate}, are compared with the current date in the clock's
+     * zone. Local date-times are compared with the current local date-time in the clock's zone,
+     * and instants, zoned and offset date-times with the current instant, to the millisecond.</p>
+     *
+     * @param value The date or date-time.
+     * @return A negative number if the value is in the past, 0 if it is today or the current
+     * millisecond, a positive number if it is in the future.
+     * @throws UnsupportedTemporalTypeException If the value has neither a date nor an instant, such as a {@link LocalTime}.
+     */
+    public int compareToNow(Temporal value) {
+        if (value instanceof LocalDate date) {
+            return Long.compare(date.toEpochDay(), today());
+        }
+        if (value instanceof Instant instant) {
+            return compare(instant.getEpochSecond(), instant.getNano(), clock.millis());
+        }
+        if (value instanceof ZonedDateTime dateTime) {
+            return compare(dateTime.toEpochSecond(), dateTime.getNano(), clock.millis());
+        }
+        if (value instanceof OffsetDateTime dateTime) {
+            return compare(dateTime.toEpochSecond(), dateTime.getNano(), clock.millis());
+        }
+        if (value instanceof ChronoLocalDateTime<?> dateTime) {
+            long now = clock.millis();
+            return compare(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.toLocalTime().getNano(), now + currentDay(now).offsetMillis);
+        }
+        if (value.isSupported(ChronoField.INSTANT_SECONDS)) {
+            int nanos = value.isSupported(ChronoField.NANO_OF_SECOND) ? value.get(ChronoField.NANO_OF_SECOND) : 0;
+            return compare(value.getLong(ChronoField.INSTANT_SECONDS), nanos, clock.millis());
+        }
+        if (value.isSupported(ChronoField.EPOCH_DAY)) {
+            return Long.compare(value.getLong(ChronoField.EPOCH_DAY), today());
+        }
+        throw new UnsupportedTemporalTypeException("Cannot compare " + value.getClass().getName() + " with the current date");
+    }
+
+    /**
+     * Compares epoch seconds and nanoseconds with epoch milliseconds, at millisecond precision
+     * and without overflowing for the far-off seconds a date-time can hold.
+     */
+    private static int compare(long seconds, int nanos, long millis) {
+        long nowSeconds = Math.floorDiv(millis, MILLIS_PER_SECOND);
+        if (seconds != nowSeconds) {
+            return Long.compare(seconds, nowSeconds);
+        }
+        return Long.compare(nanos / 1_000_000, Math.floorMod(millis, MILLIS_PER_SECOND));
+    }
+
+    private Day currentDay(long now) {
+        Day current = day;
+        if (now < current.from || now >= current.until) {
+            current = computeDay(now);
+            day = current;
+        }
+        return current;
+    }
+
+    private Day computeDay(long now) {
+        Instant instant = Instant.ofEpochMilli(now);
+        ZoneId zone = clock.getZone();
+        ZoneOffset offset = zone.getRules().getOffset(instant);
+        long offsetMillis = offset.getTotalSeconds() * MILLIS_PER_SECOND;
+        long epochDay = Math.floorDiv(now + offsetMillis, MILLIS_PER_DAY);
+        long until = LocalDate.ofEpochDay(epochDay + 1).atStartOfDay(zone).toInstant().toEpochMilli();
+        ZoneOffsetTransition transition = zone.getRules().nextTransition(instant);
+        if (transition != null) {
+            until = Math.min(until, transition.getInstant().toEpochMilli());
+        }
+        return new Day(now, until, epochDay, offsetMillis);
+    }
+
+    /**
+     * A date and offset of the clock's zone, valid from one instant until another.
+     */
+    private record Day(long from, long until, long epochDay, long offsetMillis) {
+    }
+}
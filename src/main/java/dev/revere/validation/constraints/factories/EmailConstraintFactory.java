@@ -13,7 +13,7 @@ import dev.revere.validation.constraints.impl.EmailConstraint;
 public class EmailConstraintFactory implements ConstraintFactory<Email> {
     @Override
     public Constraint<String> create(Email annotation) {
-        return new EmailConstraint();
+        return new EmailConstraint(annotation.strictness());
     }
 
     @Override
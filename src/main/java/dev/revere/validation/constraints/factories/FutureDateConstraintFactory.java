@@ -3,9 +3,10 @@ package dev.revere.validation.constraints.factories;
 import dev.revere.validation.ConstraintFactory;
 import dev.revere.validation.annotations.FutureDate;
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.TimeSource;
 import dev.revere.validation.constraints.impl.FutureDateConstraint;
 
-import java.time.LocalDate;
+import java.time.temporal.Temporal;
 
 /**
  * @author Remi
@@ -13,9 +14,22 @@ import java.time.LocalDate;
  * @date 8/19/2024
  */
 public class FutureDateConstraintFactory implements ConstraintFactory<FutureDate> {
+    private final TimeSource timeSource;
+
+    public FutureDateConstraintFactory() {
+        this(TimeSource.system());
+    }
+
+    /**
+     * @param timeSource The time source shared by the constraints this factory creates.
+     */
+    public FutureDateConstraintFactory(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
     @Override
-    public Constraint<LocalDate> create(FutureDate annotation) {
-        return new FutureDateConstraint();
+    public Constraint<Temporal> create(FutureDate annotation) {
+        return new FutureDateConstraint(timeSource);
     }
 
     @Override
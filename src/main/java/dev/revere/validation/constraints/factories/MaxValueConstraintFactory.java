@@ -12,7 +12,7 @@ import dev.revere.validation.constraints.Constraint;
  */
 public class MaxValueConstraintFactory implements ConstraintFactory<MaxValue> {
     @Override
-    public Constraint<Double> create(MaxValue annotation) {
+    public Constraint<Number> create(MaxValue annotation) {
         return new MaxValueConstraint(annotation.value());
     }
 
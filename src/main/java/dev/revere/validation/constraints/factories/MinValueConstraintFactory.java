@@ -12,7 +12,7 @@ import dev.revere.validation.constraints.impl.MinValueConstraint;
  */
 public class MinValueConstraintFactory implements ConstraintFactory<MinValue> {
     @Override
-    public Constraint<Double> create(MinValue annotation) {
+    public Constraint<Number> create(MinValue annotation) {
         return new MinValueConstraint(annotation.value());
     }
 
@@ -2,10 +2,11 @@ package dev.revere.validation.constraints.factories;
 
 import dev.revere.validation.ConstraintFactory;
 import dev.revere.validation.annotations.PastDate;
+import dev.revere.validation.constraints.TimeSource;
 import dev.revere.validation.constraints.impl.PastDateConstraint;
 import dev.revere.validation.constraints.Constraint;
 
-import java.time.LocalDate;
+import java.time.temporal.Temporal;
 
 /**
  * @author Remi
@@ -13,13 +14,26 @@ import java.time.LocalDate;
  * @date 8/19/2024
  */
 public class PastDateConstraintFactory implements ConstraintFactory<PastDate> {
+    private final TimeSource timeSource;
+
+    public PastDateConstraintFactory() {
+        this(TimeSource.system());
+    }
+
+    /**
+     * @param timeSource The time source shared by the constraints this factory creates.
+     */
+    public PastDateConstraintFactory(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
     @Override
-    public Constraint<LocalDate> create(PastDate annotation) {
-        return new PastDateConstraint();
+    public Constraint<Temporal> create(PastDate annotation) {
+        return new PastDateConstraint(timeSource);
     }
 
     @Override
     public Class<PastDate> getAnnotationType() {
         return PastDate.class;
     }
-}
\ No newline at end of file
+}
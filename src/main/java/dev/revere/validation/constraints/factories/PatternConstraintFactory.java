@@ -12,8 +12,8 @@ import dev.revere.validation.constraints.impl.PatternConstraint;
  */
 public class PatternConstraintFactory implements ConstraintFactory<Pattern> {
     @Override
-    public Constraint<String> create(Pattern annotation) {
-        return new PatternConstraint(annotation.value());
+    public Constraint<CharSequence> create(Pattern annotation) {
+        return new PatternConstraint(annotation.value(), annotation.flags());
     }
 
     @Override
@@ -1,27 +1,96 @@
 package dev.revere.validation.constraints.impl;
 
+import dev.revere.validation.annotations.Email;
 import dev.revere.validation.constraints.Constraint;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
-import java.util.regex.Pattern;
-
 /**
+ * Checks email addresses with a single pass over their characters.
+ *
+ * <p>An address is accepted if it is a non-empty local part of ASCII letters, digits,
+ * {@code _}, {@code -} and {@code .}, followed by {@code @} and a domain of at least two
+ * non-empty labels of ASCII letters, digits, {@code _} and {@code -} separated by dots. The
+ * last label must be at least 2 characters long and at most as long as the
+ * {@link Email.Strictness} allows. With {@link Email.Strictness#STANDARD} this accepts exactly
+ * the addresses matched by {@code ^[\w-.]+@([\w-]+\.)+[\w-]{2,4}$}.</p>
+ *
  * @author Remi
  * @project java-validation-library
  * @date 8/19/2024
  */
 public class EmailConstraint implements Constraint<String> {
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+    private final Email.Strictness strictness;
+    private final int maxTopLevelDomainLength;
+
+    public EmailConstraint() {
+        this(Email.Strictness.STANDARD);
+    }
+
+    public EmailConstraint(Email.Strictness strictness) {
+        this.strictness = strictness;
+        this.maxTopLevelDomainLength = strictness.getMaxTopLevelDomainLength();
+    }
+
+    public Email.Strictness getStrictness() {
+        return strictness;
+    }
 
     @Override
     public void validate(String value) throws ConstraintViolationException {
-        if (value == null || !EMAIL_PATTERN.matcher(value).matches()) {
-            throw new ConstraintViolationException("Invalid email address");
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
+        }
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        int length = value.length();
+        int index = 0;
+        while (index < length && isLocalChar(value.charAt(index))) {
+            index++;
+        }
+        if (index == 0 || index == length || value.charAt(index) != '@') {
+            return false;
+        }
+
+        int separators = 0;
+        int labelStart = ++index;
+        for (; index < length; index++) {
+            char c = value.charAt(index);
+            if (c == '.') {
+                if (index == labelStart) {
+                    return false;
+                }
+                separators++;
+                labelStart = index + 1;
+            } else if (!isLabelChar(c)) {
+                return false;
+            }
         }
+
+        int topLevelDomainLength = length - labelStart;
+        return separators > 0 && topLevelDomainLength >= 2 && topLevelDomainLength <= maxTopLevelDomainLength;
+    }
+
+    @Override
+    public String getMessage(String value) {
+        return "Invalid email address";
     }
 
     @Override
     public Class<String> getType() {
         return String.class;
     }
-}
\ No newline at end of file
+
+    private static boolean isLocalChar(char c) {
+        return c == '.' || isLabelChar(c);
+    }
+
+    private static boolean isLabelChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+    }
+}
@@ -1,31 +1,62 @@
 package dev.revere.validation.constraints.impl;
 
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.TimeSource;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
-import java.time.LocalDate;
+import java.time.temporal.Temporal;
 
 /**
+ * Requires a date or date-time to be in the future or today.
+ *
+ * <p>Accepts {@link java.time.LocalDate}, {@link java.time.LocalDateTime},
+ * {@link java.time.Instant}, {@link java.time.ZonedDateTime},
+ * {@link java.time.OffsetDateTime} and any other temporal with a date or an instant, compared
+ * with the current time of a {@link TimeSource} as described by
+ * {@link TimeSource#compareToNow}. The constraint keeps no date of its own, so it can be
+ * created once and reused for as long as needed.</p>
+ *
  * @author Remi
  * @project java-validation-library
  * @date 8/19/2024
  */
-public class FutureDateConstraint implements Constraint<LocalDate> {
-    private final LocalDate currentDate;
+public class FutureDateConstraint implements Constraint<Temporal> {
+    private final TimeSource timeSource;
 
     public FutureDateConstraint() {
-        this.currentDate = LocalDate.now();
+        this(TimeSource.system());
+    }
+
+    /**
+     * @param timeSource The time source to read the current time from.
+     */
+    public FutureDateConstraint(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    public TimeSource getTimeSource() {
+        return timeSource;
     }
 
     @Override
-    public void validate(LocalDate value) throws ConstraintViolationException {
-        if (value.isBefore(currentDate)) {
-            throw new ConstraintViolationException("Date must be in the future");
+    public void validate(Temporal value) throws ConstraintViolationException {
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
     @Override
-    public Class<LocalDate> getType() {
-        return LocalDate.class;
+    public boolean isValid(Temporal value) {
+        return timeSource.compareToNow(value) >= 0;
+    }
+
+    @Override
+    public String getMessage(Temporal value) {
+        return "Date must be in the future";
+    }
+
+    @Override
+    public Class<Temporal> getType() {
+        return Temporal.class;
     }
-}
\ No newline at end of file
+}
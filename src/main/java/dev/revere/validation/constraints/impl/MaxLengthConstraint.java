@@ -15,13 +15,27 @@ public class MaxLengthConstraint implements Constraint<String> {
         this.maxLength = maxLength;
     }
 
+    public int getMaxLength() {
+        return maxLength;
+    }
+
     @Override
     public void validate(String value) throws ConstraintViolationException {
-        if (value != null && value.length() > maxLength) {
-            throw new ConstraintViolationException("String length must be no more than " + maxLength);
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    @Override
+    public boolean isValid(String value) {
+        return value == null || value.length() <= maxLength;
+    }
+
+    @Override
+    public String getMessage(String value) {
+        return "String length must be no more than " + maxLength;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
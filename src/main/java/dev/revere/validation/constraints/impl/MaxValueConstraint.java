@@ -1,6 +1,10 @@
 package dev.revere.validation.constraints.impl;
 
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.DoubleConstraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+import dev.revere.validation.constraints.NumericBound;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
 /**
@@ -8,22 +12,53 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
  * @project java-validation-library
  * @date 8/19/2024
  */
-public class MaxValueConstraint implements Constraint<Double> {
+public class MaxValueConstraint implements Constraint<Number>, IntConstraint, LongConstraint, DoubleConstraint {
     private final double maxValue;
+    private final NumericBound bound;
 
     public MaxValueConstraint(double maxValue) {
         this.maxValue = maxValue;
+        this.bound = NumericBound.upper(maxValue);
+    }
+
+    public double getMaxValue() {
+        return maxValue;
     }
 
     @Override
-    public void validate(Double value) throws ConstraintViolationException {
-        if (value > maxValue) {
-            throw new ConstraintViolationException("Value must be no more than " + maxValue);
+    public void validate(Number value) throws ConstraintViolationException {
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
     @Override
-    public Class<Double> getType() {
-        return Double.class;
+    public boolean isValid(Number value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(int value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(long value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(double value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public String getMessage(Number value) {
+        return "Value must be no more than " + maxValue;
+    }
+
+    @Override
+    public Class<Number> getType() {
+        return Number.class;
     }
 }
\ No newline at end of file
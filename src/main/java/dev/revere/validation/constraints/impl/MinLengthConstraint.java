@@ -15,13 +15,27 @@ public class MinLengthConstraint implements Constraint<String> {
         this.minLength = minLength;
     }
 
+    public int getMinLength() {
+        return minLength;
+    }
+
     @Override
     public void validate(String value) throws ConstraintViolationException {
-        if (value == null || value.length() < minLength) {
-            throw new ConstraintViolationException("String length must be at least " + minLength);
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    @Override
+    public boolean isValid(String value) {
+        return value != null && value.length() >= minLength;
+    }
+
+    @Override
+    public String getMessage(String value) {
+        return "String length must be at least " + minLength;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
@@ -1,6 +1,10 @@
 package dev.revere.validation.constraints.impl;
 
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.DoubleConstraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+import dev.revere.validation.constraints.NumericBound;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
 /**
@@ -8,22 +12,53 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
  * @project java-validation-library
  * @date 8/19/2024
  */
-public class MinValueConstraint implements Constraint<Double> {
+public class MinValueConstraint implements Constraint<Number>, IntConstraint, LongConstraint, DoubleConstraint {
     private final double minValue;
+    private final NumericBound bound;
 
     public MinValueConstraint(double minValue) {
         this.minValue = minValue;
+        this.bound = NumericBound.lower(minValue);
+    }
+
+    public double getMinValue() {
+        return minValue;
     }
 
     @Override
-    public void validate(Double value) throws ConstraintViolationException {
-        if (value < minValue) {
-            throw new ConstraintViolationException("Value must be at least " + minValue);
+    public void validate(Number value) throws ConstraintViolationException {
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
     @Override
-    public Class<Double> getType() {
-        return Double.class;
+    public boolean isValid(Number value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(int value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(long value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public boolean isValid(double value) {
+        return bound.test(value);
+    }
+
+    @Override
+    public String getMessage(Number value) {
+        return "Value must be at least " + minValue;
+    }
+
+    @Override
+    public Class<Number> getType() {
+        return Number.class;
     }
 }
\ No newline at end of file
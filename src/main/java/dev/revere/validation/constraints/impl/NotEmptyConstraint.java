@@ -11,11 +11,21 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
 public class NotEmptyConstraint implements Constraint<String> {
     @Override
     public void validate(String value) throws ConstraintViolationException {
-        if (value == null || value.trim().isEmpty()) {
-            throw new ConstraintViolationException("String must not be empty");
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    @Override
+    public boolean isValid(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    @Override
+    public String getMessage(String value) {
+        return "String must not be empty";
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
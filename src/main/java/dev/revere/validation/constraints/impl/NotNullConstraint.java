@@ -11,11 +11,21 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
 public class NotNullConstraint implements Constraint<Object> {
     @Override
     public void validate(Object value) throws ConstraintViolationException {
-        if (value == null) {
-            throw new ConstraintViolationException("Value cannot be null");
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    @Override
+    public boolean isValid(Object value) {
+        return value != null;
+    }
+
+    @Override
+    public String getMessage(Object value) {
+        return "Value cannot be null";
+    }
+
     @Override
     public Class<Object> getType() {
         return Object.class;
@@ -1,29 +1,53 @@
 package dev.revere.validation.constraints.impl;
 
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.PatternCache;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
+import java.util.regex.Pattern;
+
 /**
  * @author Remi
  * @project java-validation-library
  * @date 8/19/2024
  */
-public class PatternConstraint implements Constraint<String> {
-    private final String pattern;
+public class PatternConstraint implements Constraint<CharSequence> {
+    private final Pattern pattern;
 
     public PatternConstraint(String pattern) {
-        this.pattern = pattern;
+        this(pattern, 0);
+    }
+
+    public PatternConstraint(String pattern, int flags) {
+        this.pattern = PatternCache.get(pattern, flags);
+    }
+
+    public Pattern getPattern() {
+        return pattern;
     }
 
     @Override
-    public void validate(String value) throws ConstraintViolationException {
-        if (!value.matches(pattern)) {
-            throw new ConstraintViolationException("Value does not match the pattern");
+    public void validate(CharSequence value) throws ConstraintViolationException {
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    /**
+     * Matches the whole value against the pattern without copying it.
+     */
+    @Override
+    public boolean isValid(CharSequence value) {
+        return pattern.matcher(value).matches();
+    }
+
+    @Override
+    public String getMessage(CharSequence value) {
+        return "Value does not match the pattern";
+    }
+
     @Override
-    public Class<String> getType() {
-        return String.class;
+    public Class<CharSequence> getType() {
+        return CharSequence.class;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,10 @@
 package dev.revere.validation.constraints.impl;
 
 import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.DoubleConstraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+import dev.revere.validation.constraints.NumericBound;
 import dev.revere.validation.exceptions.ConstraintViolationException;
 
 /**
@@ -8,31 +12,67 @@ import dev.revere.validation.exceptions.ConstraintViolationException;
  * @project java-validation-library
  * @date 8/19/2024
  */
-public class RangeConstraint implements Constraint<Object> {
+public class RangeConstraint implements Constraint<Object>, IntConstraint, LongConstraint, DoubleConstraint {
     private final double min;
     private final double max;
+    private final NumericBound lower;
+    private final NumericBound upper;
 
     public RangeConstraint(double min, double max) {
         this.min = min;
         this.max = max;
+        this.lower = NumericBound.lower(min);
+        this.upper = NumericBound.upper(max);
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
     }
 
     @Override
     public void validate(Object value) throws ConstraintViolationException {
-        if (value == null) {
-            throw new ConstraintViolationException("Value cannot be null");
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
+    }
 
-        double doubleValue;
-        if (value instanceof Number) {
-            doubleValue = ((Number) value).doubleValue();
-        } else {
-            throw new ConstraintViolationException("Unsupported type: " + value.getClass().getName());
+    @Override
+    public boolean isValid(Object value) {
+        if (!(value instanceof Number number)) {
+            return false;
         }
 
-        if (doubleValue < min || doubleValue > max) {
-            throw new ConstraintViolationException(String.format("Value must be between %.2f and %.2f", min, max));
+        return lower.test(number) && upper.test(number);
+    }
+
+    @Override
+    public boolean isValid(int value) {
+        return lower.test(value) && upper.test(value);
+    }
+
+    @Override
+    public boolean isValid(long value) {
+        return lower.test(value) && upper.test(value);
+    }
+
+    @Override
+    public boolean isValid(double value) {
+        return lower.test(value) && upper.test(value);
+    }
+
+    @Override
+    public String getMessage(Object value) {
+        if (value == null) {
+            return "Value cannot be null";
+        }
+        if (!(value instanceof Number)) {
+            return "Unsupported type: " + value.getClass().getName();
         }
+        return String.format("Value must be between %.2f and %.2f", min, max);
     }
 
     @Override
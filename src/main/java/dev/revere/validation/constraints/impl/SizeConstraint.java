@@ -17,13 +17,31 @@ public class SizeConstraint implements Constraint<String> {
         this.max = max;
     }
 
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
     @Override
     public void validate(String value) throws ConstraintViolationException {
-        if (value.length() < min || value.length() > max) {
-            throw new ConstraintViolationException(String.format("Value must be between %d and %d characters", min, max));
+        if (!isValid(value)) {
+            throw new ConstraintViolationException(getMessage(value));
         }
     }
 
+    @Override
+    public boolean isValid(String value) {
+        return value.length() >= min && value.length() <= max;
+    }
+
+    @Override
+    public String getMessage(String value) {
+        return String.format("Value must be between %d and %d characters", min, max);
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
@@ -1,12 +1,17 @@
 package dev.revere.validation.exceptions;
 
 /**
+ * Thrown when a value does not meet a constraint.
+ *
+ * <p>Violations are expected outcomes of validation rather than programming errors, so this
+ * exception does not capture a stack trace, which keeps the failure path cheap.</p>
+ *
  * @author Remi
  * @project java-validation-library
  * @date 8/19/2024
  */
 public class ConstraintViolationException extends ValidationException {
     public ConstraintViolationException(String message) {
-        super(message);
+        super(message, false);
     }
 }
\ No newline at end of file
@@ -9,4 +9,14 @@ public class ValidationException extends Exception {
     public ValidationException(String message) {
         super(message);
     }
+
+    /**
+     * Creates an exception that optionally skips capturing the stack trace.
+     *
+     * @param message            The detail message.
+     * @param writableStackTrace False to create the exception without a stack trace.
+     */
+    protected ValidationException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
 }
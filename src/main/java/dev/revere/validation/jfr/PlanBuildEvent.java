@@ -0,0 +1,76 @@
+package dev.revere.validation.jfr;
+
+import dev.revere.validation.plan.ValidationPlan;
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event for a miss of the plan cache of a
+ * {@link dev.revere.validation.ConstraintProcessor}: the building of the
+ * {@link ValidationPlan} of a class on its first validation, or the compilation of the plan
+ * into a validator once the class crossed the compilation threshold.
+ *
+ * <p>The event is enabled by default, as it is emitted at most twice per class and constraint
+ * registry.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Name(PlanBuildEvent.NAME)
+@Label("Validation Plan Build")
+@Category("Validation")
+@Description("The building or compilation of the validation plan of a class")
+public final class PlanBuildEvent extends Event {
+
+    /**
+     * The name the event is configured and recorded under.
+     */
+    public static final String NAME = "dev.revere.validation.PlanBuild";
+
+    @Label("Validated Class")
+    private Class<?> validatedClass;
+
+    @Label("Field Count")
+    @Description("The number of constrained and cascaded fields of the class")
+    private int fieldCount;
+
+    @Label("Constraint Count")
+    private int constraintCount;
+
+    @Label("Compiled")
+    @Description("True if the plan was compiled into a validator, false if it was built")
+    private boolean compiled;
+
+    @Label("Failure")
+    @Description("The exception that made the compilation fail, in which case the plan stays interpreted")
+    private String failure;
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param plan     The plan that was built or compiled.
+     * @param compiled True if the plan was compiled, false if it was built.
+     */
+    public void finish(ValidationPlan plan, boolean compiled) {
+        finish(plan, compiled, null);
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled.
+     *
+     * @param plan     The plan that was built or compiled.
+     * @param compiled True if the plan was compiled, false if it was built.
+     * @param failure  The exception that made the compilation fail, or null if it did not.
+     */
+    public void finish(ValidationPlan plan, boolean compiled, Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            this.validatedClass = plan.getType();
+            this.fieldCount = plan.getFields().length;
+            this.constraintCount = plan.getConstraintCount();
+            this.compiled = compiled;
+            this.failure = failure == null ? null : failure.toString();
+            commit();
+        }
+    }
+}
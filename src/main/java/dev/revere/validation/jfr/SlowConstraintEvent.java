@@ -0,0 +1,67 @@
+package dev.revere.validation.jfr;
+
+import dev.revere.validation.plan.FieldPlan;
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event for one check of a constraint that took longer than the event's
+ * threshold, with the field and the constraint it was checked for.
+ *
+ * <p>The event is disabled by default. While a recording enables it, the
+ * {@link dev.revere.validation.ConstraintProcessor} times every constraint on the value of a
+ * reference field one by one, instead of through compiled validators and fused checks, so
+ * the validation is slower for as long as the recording runs. The threshold defaults to 1 ms
+ * and is set through the recording settings, for example with
+ * {@code -XX:StartFlightRecording:dev.revere.validation.SlowConstraint#enabled=true,dev.revere.validation.SlowConstraint#threshold=5ms}.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Name(SlowConstraintEvent.NAME)
+@Label("Slow Constraint")
+@Category("Validation")
+@Description("A constraint check that took longer than the threshold")
+@Enabled(false)
+@Threshold("1 ms")
+public final class SlowConstraintEvent extends Event {
+
+    /**
+     * The name the event is configured and recorded under.
+     */
+    public static final String NAME = "dev.revere.validation.SlowConstraint";
+
+    @Label("Validated Class")
+    private Class<?> validatedClass;
+
+    @Label("Field")
+    private String field;
+
+    @Label("Annotation")
+    private Class<?> annotationType;
+
+    @Label("Constraint Class")
+    private Class<?> constraintClass;
+
+    @Label("Met")
+    private boolean met;
+
+    /**
+     * Ends the event and commits it if the check was slower than the threshold.
+     *
+     * @param field The plan of the field the constraint was checked for.
+     * @param index The index of the constraint in the field's plan.
+     * @param met   True if the value met the constraint.
+     */
+    public void finish(FieldPlan field, int index, boolean met) {
+        end();
+        if (shouldCommit()) {
+            this.validatedClass = field.getField().getDeclaringClass();
+            this.field = field.getName();
+            this.annotationType = field.getAnnotationType(index);
+            this.constraintClass = field.getConstraint(index).getClass();
+            this.met = met;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dev.revere.validation.jfr;
+
+import dev.revere.validation.ConstraintProcessor;
+import dev.revere.validation.plan.ValidationPlan;
+import jdk.jfr.*;
+
+/**
+ * A Flight Recorder event for the validation of one object by a
+ * {@link dev.revere.validation.ValidationEngine}, with the object's class, the number of
+ * constrained fields of the class, the duration and whether the object was valid.
+ *
+ * <p>The event is disabled by default, as it is emitted for every validated object. It is
+ * turned on through the recording settings, for example with
+ * {@code -XX:StartFlightRecording:dev.revere.validation.Validation#enabled=true}, optionally
+ * with a {@code threshold} to keep only the slow validations.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+@Name(ValidationEvent.NAME)
+@Label("Validation")
+@Category("Validation")
+@Description("The validation of one object")
+@Enabled(false)
+@StackTrace(false)
+public final class ValidationEvent extends Event {
+
+    /**
+     * The name the event is configured and recorded under.
+     */
+    public static final String NAME = "dev.revere.validation.Validation";
+
+    @Label("Validated Class")
+    private Class<?> validatedClass;
+
+    @Label("Field Count")
+    @Description("The number of constrained and cascaded fields of the class")
+    private int fieldCount;
+
+    @Label("Valid")
+    private boolean valid;
+
+    /**
+     * Ends the event and commits it if it is enabled and slower than its threshold. The plan
+     * of the object's class is only looked up for a committed event.
+     *
+     * @param processor The processor the object was validated with.
+     * @param instance  The validated object.
+     * @param valid     True if the object met all of its constraints.
+     */
+    public void finish(ConstraintProcessor processor, Object instance, boolean valid) {
+        end();
+        if (shouldCommit()) {
+            ValidationPlan plan = processor.getPlan(instance.getClass());
+            this.validatedClass = plan.getType();
+            this.fieldCount = plan.getFields().length;
+            this.valid = valid;
+            commit();
+        }
+    }
+}
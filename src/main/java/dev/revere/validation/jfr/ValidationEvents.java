@@ -0,0 +1,48 @@
+package dev.revere.validation.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+
+/**
+ * Tracks whether a running Flight Recorder recording enables the {@link SlowConstraintEvent}.
+ *
+ * <p>Timing every constraint has a cost even when no check is slow enough to be recorded,
+ * so the processor only does it while this class reports the event as enabled. The state is
+ * refreshed whenever a recording starts or stops; settings changed on a running recording
+ * take effect at the next start or stop.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ValidationEvents {
+    private static volatile boolean constraintTiming;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                refresh();
+            }
+        });
+        if (FlightRecorder.isInitialized()) {
+            refresh();
+        }
+    }
+
+    private ValidationEvents() {
+    }
+
+    private static void refresh() {
+        constraintTiming = EventType.getEventType(SlowConstraintEvent.class).isEnabled();
+    }
+
+    /**
+     * @return True if a running recording enables the {@link SlowConstraintEvent}.
+     */
+    public static boolean isConstraintTimingEnabled() {
+        return constraintTiming;
+    }
+}
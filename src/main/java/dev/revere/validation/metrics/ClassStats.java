@@ -0,0 +1,75 @@
+package dev.revere.validation.metrics;
+
+/**
+ * A snapshot of the validations of one class recorded by {@link ValidationStats}.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ClassStats {
+    private final String typeName;
+    private final long validations;
+    private final long invalid;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    public ClassStats(String typeName, long validations, long invalid, double meanNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        this.typeName = typeName;
+        this.validations = validations;
+        this.invalid = invalid;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public String getTypeName() {
+        return typeName;
+    }
+
+    public long getValidations() {
+        return validations;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * @return The share of validated objects that were invalid, from 0 to 1.
+     */
+    public double getInvalidRate() {
+        return validations == 0 ? 0.0 : (double) invalid / validations;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return typeName + " [validations=" + validations + ", invalid=" + invalid + ", p50=" + p50Nanos
+                + "ns, p99=" + p99Nanos + "ns, max=" + maxNanos + "ns]";
+    }
+}
@@ -0,0 +1,62 @@
+package dev.revere.validation.metrics;
+
+/**
+ * A snapshot of the checks and violations of one constraint type recorded by
+ * {@link ValidationStats}.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ConstraintStats {
+    private final String constraintName;
+    private final long checks;
+    private final long violations;
+
+    public ConstraintStats(String constraintName, long checks, long violations) {
+        this.constraintName = constraintName;
+        this.checks = checks;
+        this.violations = violations;
+    }
+
+    /**
+     * @return The fully qualified name of the constraint annotation.
+     */
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * Returns the number of times the constraint was due to be checked: for every validated
+     * object, the number of fields of its class that carry the constraint. A fail-fast
+     * validation that stopped at a violation counts only the constraints up to the violated
+     * one, in declaration order.
+     *
+     * <p>This is an upper bound of the checks actually run, as null values skip most
+     * constraints and the constraints of one field are checked together.</p>
+     *
+     * @return The number of checks.
+     */
+    public long getChecks() {
+        return checks;
+    }
+
+    /**
+     * @return The number of violations found by validations that collect their violations.
+     */
+    public long getViolations() {
+        return violations;
+    }
+
+    /**
+     * @return The share of checks that found a violation, from 0 to 1.
+     */
+    public double getViolationRate() {
+        return checks == 0 ? 0.0 : (double) violations / checks;
+    }
+
+    @Override
+    public String toString() {
+        return constraintName + " [checks=" + checks + ", violations=" + violations + "]";
+    }
+}
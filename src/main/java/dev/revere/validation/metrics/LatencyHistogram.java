@@ -0,0 +1,145 @@
+package dev.revere.validation.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds, with a fixed memory footprint whatever the number
+ * of values recorded.
+ *
+ * <p>Values are counted in log-linear buckets: every power of two is split into
+ * {@value #SUB_BUCKETS} buckets of equal width, so a percentile is reported with a relative
+ * error of at most 12.5%. Values below {@value #SUB_BUCKETS} nanoseconds are counted exactly.
+ * The {@value #BUCKET_COUNT} buckets cover every positive {@code long}.</p>
+ *
+ * <p>Recording a value is lock-free: it increments one bucket, adds the value to the total
+ * and updates the maximum. Each bucket is a {@link LongAdder}, so threads recording similar
+ * latencies at the same time, which land in the same bucket, update separate cells instead
+ * of contending on one counter. A bucket only grows cells once it is contended, up to one
+ * per processor, so the footprint is bounded. The number of values is the sum of the
+ * buckets.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one duration. Negative durations, which a non-monotonic clock can produce, are
+     * recorded as zero.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+        buckets[bucketOf(value)].increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return The highest value counted in the given bucket.
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    public long getCount() {
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += buckets[i].sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return The mean of the recorded values in nanoseconds, or 0 if none were recorded.
+     */
+    public double getMean() {
+        long values = getCount();
+        return values == 0 ? 0.0 : (double) total.sum() / values;
+    }
+
+    /**
+     * @return The highest recorded value in nanoseconds, or 0 if none were recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Estimates the value below which the given percentage of the recorded values fall.
+     *
+     * <p>The result is the upper bound of the bucket holding that value, capped at the
+     * highest recorded value. Values recorded while this method runs may or may not be
+     * taken into account.</p>
+     *
+     * @param percentile The percentage, from 0 to 100.
+     * @return The value at the percentile in nanoseconds, or 0 if none were recorded.
+     * @throws IllegalArgumentException If the percentage is not between 0 and 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        long[] counts = new long[BUCKET_COUNT];
+        long values = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets[i].sum();
+            values += counts[i];
+        }
+        if (values == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * values));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Discards every recorded value. Values recorded concurrently may be partly kept.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i].reset();
+        }
+        total.reset();
+        max.reset();
+    }
+}
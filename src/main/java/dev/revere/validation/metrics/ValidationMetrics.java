@@ -0,0 +1,57 @@
+package dev.revere.validation.metrics;
+
+import dev.revere.validation.plan.ValidationPlan;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Receives the outcome of the validations run by a {@link dev.revere.validation.ValidationEngine}.
+ *
+ * <p>Metrics are off by default. Once an implementation is installed with
+ * {@link dev.revere.validation.ValidationEngine#setMetrics}, it is called from every thread
+ * that validates through the engine, so it must be thread-safe and should not block or
+ * allocate. {@link ValidationStats} is the built-in implementation.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface ValidationMetrics {
+
+    /**
+     * Records the validation of one object.
+     *
+     * @param plan          The plan of the validated object's class.
+     * @param durationNanos The time the validation took, in nanoseconds.
+     * @param valid         True if the object met all of its constraints.
+     */
+    void recordValidation(ValidationPlan plan, long durationNanos, boolean valid);
+
+    /**
+     * Records the fail-fast validation of an invalid object, which stopped at the first
+     * violated constraint of its own fields: the constraints in later slots were not checked.
+     *
+     * <p>Fail-fast validation through {@link dev.revere.validation.ValidationEngine#validate}
+     * and {@link dev.revere.validation.ValidationEngine#isValid} is recorded this way, and the
+     * violated constraint through {@link #recordViolation}. If the violation is in an object
+     * reached through a cascade, every constraint of the object's own fields was checked, so
+     * the validation is recorded through {@link #recordValidation} instead.</p>
+     *
+     * @param plan          The plan of the validated object's class.
+     * @param durationNanos The time the validation took, in nanoseconds.
+     * @param slot          The slot of the violated constraint, as numbered by
+     *                      {@link dev.revere.validation.plan.FieldPlan#getSlot}.
+     */
+    void recordFailFast(ValidationPlan plan, long durationNanos, int slot);
+
+    /**
+     * Records one violated constraint of a validated object.
+     *
+     * <p>Validations that collect their violations record every violated constraint. Fail-fast
+     * validations record the constraint they stopped at.</p>
+     *
+     * @param plan           The plan of the validated object's class.
+     * @param constraintType The annotation type of the violated constraint.
+     */
+    void recordViolation(ValidationPlan plan, Class<? extends Annotation> constraintType);
+}
@@ -0,0 +1,236 @@
+package dev.revere.validation.metrics;
+
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.ValidationPlan;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The built-in {@link ValidationMetrics}: counts validations and violations per class and
+ * per constraint type, and records the latency of each class in a {@link LatencyHistogram}.
+ *
+ * <p>Counters, including the buckets of the latency histograms, are {@link LongAdder}s,
+ * which stripe their updates across cells under contention, so threads validating
+ * concurrently do not contend on a shared counter. A counter grows at most one cell per
+ * processor, so the memory used is bounded per validated class and constraint type. The
+ * statistics can be read through {@link #getClassStats()} and {@link #getConstraintStats()},
+ * or over JMX once {@link #register registered}.</p>
+ *
+ * <pre>{@code
+ * ValidationStats stats = new ValidationStats();
+ * engine.setMetrics(stats);
+ * stats.register("orders");
+ * }</pre>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ValidationStats implements ValidationMetrics, ValidationStatsMXBean {
+
+    /**
+     * The JMX domain the statistics are registered under.
+     */
+    public static final String DOMAIN = "dev.revere.validation";
+
+    private final Map<Class<?>, ClassCounters> classes = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Annotation>, LongAdder> violations = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordValidation(ValidationPlan plan, long durationNanos, boolean valid) {
+        ClassCounters counters = classes.get(plan.getType());
+        if (counters == null) {
+            counters = classes.computeIfAbsent(plan.getType(), type -> new ClassCounters(plan));
+        }
+        if (!valid) {
+            counters.invalid.increment();
+        }
+        counters.latency.record(durationNanos);
+    }
+
+    @Override
+    public void recordFailFast(ValidationPlan plan, long durationNanos, int slot) {
+        ClassCounters counters = classes.get(plan.getType());
+        if (counters == null) {
+            counters = classes.computeIfAbsent(plan.getType(), type -> new ClassCounters(plan));
+        }
+        counters.invalid.increment();
+        counters.stoppedAt[slot].increment();
+        counters.latency.record(durationNanos);
+    }
+
+    @Override
+    public void recordViolation(ValidationPlan plan, Class<? extends Annotation> constraintType) {
+        LongAdder counter = violations.get(constraintType);
+        if (counter == null) {
+            counter = violations.computeIfAbsent(constraintType, type -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Override
+    public long getValidations() {
+        long validations = 0L;
+        for (ClassCounters counters : classes.values()) {
+            validations += counters.latency.getCount();
+        }
+        return validations;
+    }
+
+    @Override
+    public long getInvalid() {
+        long invalid = 0L;
+        for (ClassCounters counters : classes.values()) {
+            invalid += counters.invalid.sum();
+        }
+        return invalid;
+    }
+
+    @Override
+    public List<ClassStats> getClassStats() {
+        List<ClassStats> stats = new ArrayList<>();
+        for (Map.Entry<Class<?>, ClassCounters> entry : classes.entrySet()) {
+            stats.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        stats.sort(Comparator.comparing(ClassStats::getTypeName));
+        return stats;
+    }
+
+    /**
+     * @param type The validated class.
+     * @return The statistics of the class, or null if no instance of it was validated.
+     */
+    public ClassStats getClassStats(Class<?> type) {
+        ClassCounters counters = classes.get(type);
+        return counters == null ? null : counters.snapshot(type);
+    }
+
+    @Override
+    public List<ConstraintStats> getConstraintStats() {
+        Map<Class<? extends Annotation>, Long> checks = new HashMap<>();
+        for (ClassCounters counters : classes.values()) {
+            // A slot is checked by every validation that did not stop at an earlier slot.
+            long checked = counters.latency.getCount();
+            for (LongAdder stopped : counters.stoppedAt) {
+                checked -= stopped.sum();
+            }
+            long[] slotChecks = new long[counters.stoppedAt.length];
+            for (int slot = slotChecks.length - 1; slot >= 0; slot--) {
+                checked += counters.stoppedAt[slot].sum();
+                slotChecks[slot] = checked;
+            }
+            for (int slot = 0; slot < slotChecks.length; slot++) {
+                checks.merge(counters.constraintTypes.get(slot), slotChecks[slot], Long::sum);
+            }
+        }
+        for (Class<? extends Annotation> constraintType : violations.keySet()) {
+            checks.putIfAbsent(constraintType, 0L);
+        }
+
+        List<ConstraintStats> stats = new ArrayList<>();
+        for (Map.Entry<Class<? extends Annotation>, Long> entry : checks.entrySet()) {
+            LongAdder violated = violations.get(entry.getKey());
+            stats.add(new ConstraintStats(entry.getKey().getName(), entry.getValue(), violated == null ? 0L : violated.sum()));
+        }
+        stats.sort(Comparator.comparing(ConstraintStats::getConstraintName));
+        return stats;
+    }
+
+    /**
+     * @param constraintType The annotation type of the constraint.
+     * @return The statistics of the constraint type, or null if no validated class uses it.
+     */
+    public ConstraintStats getConstraintStats(Class<? extends Annotation> constraintType) {
+        for (ConstraintStats stats : getConstraintStats()) {
+            if (stats.getConstraintName().equals(constraintType.getName())) {
+                return stats;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void reset() {
+        for (ClassCounters counters : classes.values()) {
+            counters.invalid.reset();
+            counters.latency.reset();
+            for (LongAdder stopped : counters.stoppedAt) {
+                stopped.reset();
+            }
+        }
+        for (LongAdder counter : violations.values()) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Registers these statistics with the platform MBean server.
+     *
+     * @param name The name that tells these statistics apart from those of other engines.
+     * @return The object name the statistics were registered under.
+     * @throws IllegalStateException If the statistics could not be registered, for example
+     * because the name is already taken.
+     */
+    public ObjectName register(String name) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=ValidationStats,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register validation statistics " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters statistics from the platform MBean server.
+     *
+     * @param objectName The object name returned by {@link #register}.
+     * @throws IllegalStateException If no statistics are registered under the name.
+     */
+    public void unregister(ObjectName objectName) {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister validation statistics " + objectName, e);
+        }
+    }
+
+    /**
+     * The counters of one class, with the annotation types of its constraint slots and the
+     * number of fail-fast validations that stopped at each slot.
+     */
+    private static final class ClassCounters {
+        private final LongAdder invalid = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final List<Class<? extends Annotation>> constraintTypes = new ArrayList<>();
+        private final LongAdder[] stoppedAt;
+
+        private ClassCounters(ValidationPlan plan) {
+            for (FieldPlan field : plan.getFields()) {
+                for (int i = 0; i < field.getSlotCount(); i++) {
+                    constraintTypes.add(field.getAnnotationType(i));
+                }
+            }
+            stoppedAt = new LongAdder[constraintTypes.size()];
+            for (int slot = 0; slot < stoppedAt.length; slot++) {
+                stoppedAt[slot] = new LongAdder();
+            }
+        }
+
+        private ClassStats snapshot(Class<?> type) {
+            return new ClassStats(type.getName(), latency.getCount(), invalid.sum(), latency.getMean(),
+                    latency.getValueAtPercentile(50), latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9),
+                    latency.getMax());
+        }
+    }
+}
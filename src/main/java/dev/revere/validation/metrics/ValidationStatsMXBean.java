@@ -0,0 +1,39 @@
+package dev.revere.validation.metrics;
+
+import java.util.List;
+
+/**
+ * The management interface of {@link ValidationStats}, registered with
+ * {@link ValidationStats#register}.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public interface ValidationStatsMXBean {
+
+    /**
+     * @return The number of objects validated, across all classes.
+     */
+    long getValidations();
+
+    /**
+     * @return The number of invalid objects, across all classes.
+     */
+    long getInvalid();
+
+    /**
+     * @return The statistics of every validated class.
+     */
+    List<ClassStats> getClassStats();
+
+    /**
+     * @return The statistics of every constraint type of the validated classes.
+     */
+    List<ConstraintStats> getConstraintStats();
+
+    /**
+     * Discards every recorded validation.
+     */
+    void reset();
+}
@@ -0,0 +1,126 @@
+package dev.revere.validation.plan;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An iterative walk over the objects reached through fields annotated with
+ * {@link dev.revere.validation.annotations.Valid}.
+ *
+ * <p>Objects are visited breadth-first from a queue instead of through recursion, so deep
+ * graphs cannot overflow the stack. Every object is visited at most once, compared by
+ * identity, so cycles end the walk instead of looping. Arrays, iterables and maps are
+ * expanded into their non-null elements, with the index or key appended to the path, as in
+ * {@code items[3].sku}.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class CascadeWalk {
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ArrayDeque<Object> values = new ArrayDeque<>();
+    private final ArrayDeque<PropertyPath> paths = new ArrayDeque<>();
+    private PropertyPath path;
+
+    /**
+     * Creates a walk that starts from values queued through {@link #queue}, such as the
+     * components passed to the constructor of a record that does not exist yet.
+     */
+    public CascadeWalk() {
+    }
+
+    /**
+     * @param root The object the walk starts from, which is never returned by {@link #next}.
+     */
+    public CascadeWalk(Object root) {
+        visited.add(root);
+    }
+
+    /**
+     * Queues the values of the cascaded fields of the object last returned by {@link #next},
+     * or of the root object before the first call to {@link #next}.
+     *
+     * @param plan  The plan of the object.
+     * @param value The object.
+     */
+    public void descend(ValidationPlan plan, Object value) {
+        for (FieldPlan field : plan.getCascadedFields()) {
+            descend(field, value);
+        }
+    }
+
+    /**
+     * Queues the value of one cascaded field of the object last returned by {@link #next}, or
+     * of the root object before the first call to {@link #next}.
+     *
+     * @param field The plan of the cascaded field.
+     * @param value The object declaring the field.
+     */
+    public void descend(FieldPlan field, Object value) {
+        queue(field, field.get(value));
+    }
+
+    /**
+     * Queues a value of a cascaded field that the caller has already read.
+     *
+     * @param field The plan of the cascaded field.
+     * @param child The value of the field, ignored if null.
+     */
+    public void queue(FieldPlan field, Object child) {
+        if (child != null) {
+            push(child, PropertyPath.of(path, field.getName()));
+        }
+    }
+
+    /**
+     * @return The next object to validate, or null when the walk is over.
+     */
+    public Object next() {
+        Object value;
+        while ((value = values.poll()) != null) {
+            PropertyPath current = paths.poll();
+            if (value instanceof Object[] array) {
+                for (int i = 0; i < array.length; i++) {
+                    pushElement(array[i], current.element(i));
+                }
+            } else if (value instanceof Iterable<?> iterable) {
+                int index = 0;
+                for (Object element : iterable) {
+                    pushElement(element, current.element(index++));
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    pushElement(entry.getValue(), current.element(entry.getKey()));
+                }
+            } else {
+                path = current;
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The property path of the object last returned by {@link #next}.
+     */
+    public PropertyPath getPath() {
+        return path;
+    }
+
+    private void pushElement(Object element, PropertyPath elementPath) {
+        if (element != null) {
+            push(element, elementPath);
+        }
+    }
+
+    private void push(Object value, PropertyPath valuePath) {
+        if (visited.add(value)) {
+            values.add(value);
+            paths.add(valuePath);
+        }
+    }
+}
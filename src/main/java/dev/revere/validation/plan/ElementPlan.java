@@ -0,0 +1,367 @@
+package dev.revere.validation.plan;
+
+import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.DoubleConstraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The constraints declared on the elements of a container field, such as the
+ * {@code @NotEmpty} of {@code List<@NotEmpty String>} or the {@code @MaxValue(100)} of
+ * {@code @MaxValue(100) int[]}.
+ *
+ * <p>Element constraints are stored in the {@link FieldPlan} of the container field after
+ * the constraints on the field's value, starting at {@link #getFirstIndex()}, so that they
+ * have constraint slots and annotation types like any other constraint.</p>
+ *
+ * <p>The elements of {@code int[]}, {@code long[]} and {@code double[]} fields are checked
+ * in dedicated loops, through {@link IntConstraint}, {@link LongConstraint} or
+ * {@link DoubleConstraint} where the constraint implements the one matching the element
+ * type, so that checking a valid array does not box any element and integer elements are
+ * compared exactly. Constraints that only check doubles see integer elements widened to
+ * {@code double}. A constraint on the elements of a
+ * primitive array that accepts neither a primitive value nor the boxed element type is a
+ * type mismatch of the whole array. The elements of other primitive arrays are boxed.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ElementPlan {
+
+    /**
+     * The kind of container and of the elements the constraints apply to.
+     */
+    public enum Kind {
+        ARRAY,
+        INT_ARRAY,
+        LONG_ARRAY,
+        DOUBLE_ARRAY,
+        ITERABLE,
+        MAP_KEYS,
+        MAP_VALUES
+    }
+
+    private static final byte UNCHECKED = 0;
+    private static final byte CHECKED = 1;
+    private static final byte NUMERIC = 2;
+    private static final byte MISMATCH = 3;
+
+    private final Kind kind;
+    private final Class<?> elementType;
+    private final Constraint<?>[] constraints;
+    private final Class<? extends Annotation>[] annotationTypes;
+    private final IntConstraint[] intConstraints;
+    private final LongConstraint[] longConstraints;
+    private final DoubleConstraint[] doubleConstraints;
+    private final byte[] modes;
+    private final int firstIndex;
+    private final int notNullIndex;
+
+    /**
+     * @param kind            The kind of container.
+     * @param elementType     The declared type of the elements, boxed for primitive arrays.
+     * @param constraints     The constraints on the elements, in declaration order.
+     * @param annotationTypes The annotation types of the constraints.
+     * @param firstIndex      The index of the first element constraint in the field plan.
+     */
+    public ElementPlan(Kind kind, Class<?> elementType, Constraint<?>[] constraints, Class<? extends Annotation>[] annotationTypes, int firstIndex) {
+        this.kind = kind;
+        this.elementType = elementType;
+        this.constraints = constraints;
+        this.annotationTypes = annotationTypes;
+        this.firstIndex = firstIndex;
+        this.intConstraints = new IntConstraint[constraints.length];
+        this.longConstraints = new LongConstraint[constraints.length];
+        this.doubleConstraints = new DoubleConstraint[constraints.length];
+        this.modes = new byte[constraints.length];
+        boolean primitive = isPrimitiveArray();
+        int notNull = -1;
+        for (int i = 0; i < constraints.length; i++) {
+            if (annotationTypes[i] == NotNull.class && notNull < 0) {
+                notNull = i;
+            }
+
+            boolean assignable = constraints[i].getType().isAssignableFrom(elementType);
+            if (primitive && isNumeric(constraints[i])) {
+                if (kind == Kind.INT_ARRAY && constraints[i] instanceof IntConstraint exact) {
+                    intConstraints[i] = exact;
+                } else if (kind == Kind.LONG_ARRAY && constraints[i] instanceof LongConstraint exact) {
+                    longConstraints[i] = exact;
+                } else {
+                    doubleConstraints[i] = (DoubleConstraint) constraints[i];
+                }
+                modes[i] = NUMERIC;
+            } else if (assignable) {
+                modes[i] = UNCHECKED;
+            } else {
+                modes[i] = primitive ? MISMATCH : CHECKED;
+            }
+        }
+        this.notNullIndex = primitive ? -1 : notNull;
+    }
+
+    /**
+     * Checks if a constraint can check the elements of this primitive array without boxing.
+     */
+    private boolean isNumeric(Constraint<?> constraint) {
+        return constraint instanceof DoubleConstraint
+                || kind == Kind.INT_ARRAY && constraint instanceof IntConstraint
+                || kind == Kind.LONG_ARRAY && constraint instanceof LongConstraint;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public Class<?> getElementType() {
+        return elementType;
+    }
+
+    public int getConstraintCount() {
+        return constraints.length;
+    }
+
+    /**
+     * @return The index of the first element constraint in the plan of the container field.
+     */
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    public Constraint<?> getConstraint(int index) {
+        return constraints[index];
+    }
+
+    public Class<? extends Annotation> getAnnotationType(int index) {
+        return annotationTypes[index];
+    }
+
+    /**
+     * @return The index of the {@link NotNull} element constraint, or -1 if null elements are allowed.
+     */
+    public int getNotNullIndex() {
+        return notNullIndex;
+    }
+
+    /**
+     * @return True if the container is an {@code int[]}, {@code long[]} or {@code double[]}.
+     */
+    public boolean isPrimitiveArray() {
+        return kind == Kind.INT_ARRAY || kind == Kind.LONG_ARRAY || kind == Kind.DOUBLE_ARRAY;
+    }
+
+    /**
+     * Checks whether every element of the container meets every element constraint.
+     *
+     * @param container The non-null container.
+     * @return True if every element constraint is met.
+     */
+    public boolean isValid(Object container) {
+        for (int i = 0; i < constraints.length; i++) {
+            if (!isMet(container, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks one element constraint against every element of the container.
+     *
+     * <p>Null elements only fail the {@link NotNull} constraint and are skipped by all others,
+     * as null field values are.</p>
+     *
+     * @param container The non-null container.
+     * @param index     The index of the constraint in this element plan.
+     * @return True if every element meets the constraint.
+     */
+    public boolean isMet(Object container, int index) {
+        if (modes[index] == NUMERIC) {
+            return switch (kind) {
+                case INT_ARRAY -> intConstraints[index] != null
+                        ? isMet((int[]) container, intConstraints[index])
+                        : isMet((int[]) container, doubleConstraints[index]);
+                case LONG_ARRAY -> longConstraints[index] != null
+                        ? isMet((long[]) container, longConstraints[index])
+                        : isMet((long[]) container, doubleConstraints[index]);
+                case DOUBLE_ARRAY -> isMet((double[]) container, doubleConstraints[index]);
+                default -> throw new IllegalStateException("Numeric element check on " + kind);
+            };
+        }
+        if (modes[index] == MISMATCH) {
+            return Array.getLength(container) == 0;
+        }
+
+        if (kind == Kind.ARRAY && container instanceof Object[] array) {
+            for (Object element : array) {
+                if (!isElementMet(element, index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (kind == Kind.ITERABLE) {
+            for (Object element : (Iterable<?>) container) {
+                if (!isElementMet(element, index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (kind == Kind.MAP_KEYS || kind == Kind.MAP_VALUES) {
+            for (Object element : kind == Kind.MAP_KEYS ? ((Map<?, ?>) container).keySet() : ((Map<?, ?>) container).values()) {
+                if (!isElementMet(element, index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int length = Array.getLength(container);
+        for (int i = 0; i < length; i++) {
+            if (!isElementMet(Array.get(container, i), index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMet(int[] array, IntConstraint constraint) {
+        for (int element : array) {
+            if (!constraint.isValid(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMet(int[] array, DoubleConstraint constraint) {
+        for (int element : array) {
+            if (!constraint.isValid(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMet(long[] array, LongConstraint constraint) {
+        for (long element : array) {
+            if (!constraint.isValid(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMet(long[] array, DoubleConstraint constraint) {
+        for (long element : array) {
+            if (!constraint.isValid((double) element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMet(double[] array, DoubleConstraint constraint) {
+        for (double element : array) {
+            if (!constraint.isValid(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isElementMet(Object element, int index) {
+        if (element == null) {
+            return index != notNullIndex;
+        }
+        return index == notNullIndex || isCompatible(element, index) && isValid(element, index);
+    }
+
+    /**
+     * Checks if a non-null element has the type the constraint at the given index accepts.
+     *
+     * @param element The element.
+     * @param index   The index of the constraint in this element plan.
+     * @return True if the constraint can check the element.
+     */
+    public boolean isCompatible(Object element, int index) {
+        return switch (modes[index]) {
+            case CHECKED -> constraints[index].getType().isInstance(element);
+            case MISMATCH -> false;
+            default -> true;
+        };
+    }
+
+    /**
+     * Checks a compatible, non-null element against the constraint at the given index.
+     *
+     * @param element The element.
+     * @param index   The index of the constraint in this element plan.
+     * @return True if the element meets the constraint.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isValid(Object element, int index) {
+        if (modes[index] == NUMERIC) {
+            if (intConstraints[index] != null) {
+                return intConstraints[index].isValid(((Number) element).intValue());
+            }
+            if (longConstraints[index] != null) {
+                return longConstraints[index].isValid(((Number) element).longValue());
+            }
+            return doubleConstraints[index].isValid(((Number) element).doubleValue());
+        }
+        return ((Constraint<Object>) constraints[index]).isValid(element);
+    }
+
+    /**
+     * Returns the value a violation of the constraint at the given index is reported with, so
+     * that the constraint can build its message from it.
+     *
+     * @param element The element that does not meet the constraint.
+     * @param index   The index of the constraint in this element plan.
+     * @return The element, converted to a {@link Double} if the constraint only accepts doubles.
+     */
+    public Object toReportedValue(Object element, int index) {
+        if (modes[index] != NUMERIC || constraints[index].getType().isInstance(element)) {
+            return element;
+        }
+        return ((Number) element).doubleValue();
+    }
+
+    /**
+     * Passes every element of the container, boxed if primitive, to the consumer together with
+     * its index, or its key for the keys and values of a map.
+     *
+     * @param container The non-null container.
+     * @param consumer  The consumer of the keys and elements.
+     */
+    public void forEach(Object container, BiConsumer<Object, Object> consumer) {
+        switch (kind) {
+            case ITERABLE -> {
+                int index = 0;
+                for (Object element : (Iterable<?>) container) {
+                    consumer.accept(index++, element);
+                }
+            }
+            case MAP_KEYS, MAP_VALUES -> {
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) container).entrySet()) {
+                    consumer.accept(entry.getKey(), kind == Kind.MAP_KEYS ? entry.getKey() : entry.getValue());
+                }
+            }
+            default -> {
+                int length = Array.getLength(container);
+                for (int i = 0; i < length; i++) {
+                    consumer.accept(i, Array.get(container, i));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package dev.revere.validation.plan;
+
+import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.DoubleConstraint;
+import dev.revere.validation.constraints.IntConstraint;
+import dev.revere.validation.constraints.LongConstraint;
+import dev.revere.validation.jfr.SlowConstraintEvent;
+import dev.revere.validation.jfr.ValidationEvents;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Objects;
+
+/**
+ * The precomputed validation steps for a single constrained or cascaded field.
+ *
+ * <p>A field plan holds the {@link FieldAccessor} used to read the field, the constraint
+ * instances resolved from its annotations (in declaration order) and the flags needed to
+ * decide, without further reflection, how a {@code null} value or a value of the wrong type
+ * must be handled.</p>
+ *
+ * <p>The constraints of a primitive field are checked against the wrapper type. Each one is
+ * also assigned the primitive specialization matching the field type, {@link IntConstraint}
+ * for {@code int}, {@code short} and {@code byte}, {@link LongConstraint} for {@code long}
+ * and {@link DoubleConstraint} for {@code float} and {@code double}, so that
+ * {@link #isPrimitiveValid} reads and checks the value without boxing it.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class FieldPlan {
+    private static final byte BOXED = 0;
+    private static final byte ALWAYS_MET = 1;
+    private static final byte MISMATCH = 2;
+    private static final byte INT = 3;
+    private static final byte LONG = 4;
+    private static final byte DOUBLE = 5;
+
+    private static final byte COMPARE_BOXED = 0;
+    private static final byte COMPARE_LONG = 1;
+    private static final byte COMPARE_DOUBLE = 2;
+
+    private final Field field;
+    private final FieldAccessor accessor;
+    private final String name;
+    private final Constraint<?>[] constraints;
+    private final Class<? extends Annotation>[] annotationTypes;
+    private final boolean[] runtimeTypeChecks;
+    private final byte[] primitiveModes;
+    private final byte comparison;
+    private final FusedCheck fusedCheck;
+    private final boolean notNull;
+    private final boolean cascaded;
+    private final boolean primitive;
+    private final ElementPlan[] elements;
+    private final int valueConstraintCount;
+    private final int firstSlot;
+    private final int notNullIndex;
+
+    public FieldPlan(Field field, Constraint<?>[] constraints, Class<? extends Annotation>[] annotationTypes, boolean notNull, int firstSlot) {
+        this(field, constraints, annotationTypes, notNull, firstSlot, false);
+    }
+
+    public FieldPlan(Field field, Constraint<?>[] constraints, Class<? extends Annotation>[] annotationTypes, boolean notNull, int firstSlot, boolean cascaded) {
+        this(field, constraints, annotationTypes, notNull, firstSlot, cascaded, new ElementPlan[0]);
+    }
+
+    /**
+     * @param constraints     The constraints on the field's value, followed by the constraints
+     *                        of each element plan, starting at its {@link ElementPlan#getFirstIndex()}.
+     * @param annotationTypes The annotation types of the constraints.
+     * @param elements        The constraints on the elements of the field's value, if it is a container.
+     */
+    public FieldPlan(Field field, Constraint<?>[] constraints, Class<? extends Annotation>[] annotationTypes, boolean notNull, int firstSlot, boolean cascaded, ElementPlan[] elements) {
+        this.field = field;
+        this.accessor = FieldAccessor.of(field);
+        this.name = field.getName();
+        this.constraints = constraints;
+        this.annotationTypes = annotationTypes;
+        this.notNull = notNull;
+        this.cascaded = cascaded;
+        this.primitive = field.getType().isPrimitive();
+        this.elements = elements;
+        this.firstSlot = firstSlot;
+        int count = constraints.length;
+        for (ElementPlan element : elements) {
+            count -= element.getConstraintCount();
+        }
+        this.valueConstraintCount = count;
+        this.notNullIndex = indexOf(annotationTypes, count, NotNull.class);
+        this.runtimeTypeChecks = new boolean[count];
+        this.primitiveModes = new byte[primitive ? count : 0];
+        Class<?> valueType = primitive ? MethodType.methodType(field.getType()).wrap().returnType() : field.getType();
+        for (int i = 0; i < count; i++) {
+            runtimeTypeChecks[i] = !constraints[i].getType().isAssignableFrom(valueType);
+            if (primitive) {
+                primitiveModes[i] = primitiveMode(field.getType(), constraints[i], runtimeTypeChecks[i], i == notNullIndex);
+            }
+        }
+        this.fusedCheck = primitive ? null : new FusedCheck(constraints, count, runtimeTypeChecks);
+        Class<?> type = field.getType();
+        if (type == int.class || type == long.class || type == short.class || type == byte.class) {
+            this.comparison = COMPARE_LONG;
+        } else if (type == double.class || type == float.class) {
+            this.comparison = COMPARE_DOUBLE;
+        } else {
+            this.comparison = COMPARE_BOXED;
+        }
+    }
+
+    /**
+     * Chooses how a constraint checks the value of a primitive field. A constraint that does
+     * not accept the wrapper type can never be met, as the field's value always has that type.
+     */
+    private static byte primitiveMode(Class<?> type, Constraint<?> constraint, boolean typeChecked, boolean notNull) {
+        if (notNull) {
+            return ALWAYS_MET;
+        }
+        if (typeChecked) {
+            return MISMATCH;
+        }
+        boolean integral = type == int.class || type == short.class || type == byte.class;
+        if (integral && constraint instanceof IntConstraint) {
+            return INT;
+        }
+        if ((integral || type == long.class) && constraint instanceof LongConstraint) {
+            return LONG;
+        }
+        if ((integral || type == long.class || type == float.class || type == double.class) && constraint instanceof DoubleConstraint) {
+            return DOUBLE;
+        }
+        return BOXED;
+    }
+
+    /**
+     * Reads the value of this field from the given instance.
+     *
+     * @param instance The object instance to read from.
+     * @return The value of the field.
+     */
+    public Object get(Object instance) {
+        return accessor.get(instance);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Checks whether two instances of the declaring class hold the same value in this field.
+     *
+     * <p>Numeric primitive fields are compared without boxing, doubles by their bits so that
+     * {@code NaN} equals itself. Other values are compared with {@code equals}, so an object
+     * mutated in place and shared by both instances is seen as unchanged.</p>
+     *
+     * @param previous The earlier instance.
+     * @param current  The later instance.
+     * @return True if the field has the same value in both instances.
+     */
+    public boolean isUnchanged(Object previous, Object current) {
+        return switch (comparison) {
+            case COMPARE_LONG -> accessor.getLong(previous) == accessor.getLong(current);
+            case COMPARE_DOUBLE -> Double.doubleToLongBits(accessor.getDouble(previous)) == Double.doubleToLongBits(accessor.getDouble(current));
+            default -> Objects.equals(accessor.get(previous), accessor.get(current));
+        };
+    }
+
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of constraints on the field's value, which are the ones at indexes
+     * 0 to {@code getConstraintCount() - 1}, not counting element constraints.
+     */
+    public int getConstraintCount() {
+        return valueConstraintCount;
+    }
+
+    /**
+     * @return The number of constraint slots of the field, counting element constraints.
+     */
+    public int getSlotCount() {
+        return constraints.length;
+    }
+
+    /**
+     * @return The constraints on the elements of the field's value, empty if there are none.
+     */
+    public ElementPlan[] getElements() {
+        return elements;
+    }
+
+    /**
+     * @return True if the field declares constraints on the elements of its value.
+     */
+    public boolean hasElements() {
+        return elements.length > 0;
+    }
+
+    public Constraint<?> getConstraint(int index) {
+        return constraints[index];
+    }
+
+    public Class<? extends Annotation> getAnnotationType(int index) {
+        return annotationTypes[index];
+    }
+
+    /**
+     * Returns the slot of a constraint in the plan of the declaring class. Slots number every
+     * constraint of a class consecutively, in field and annotation order.
+     *
+     * @param index The index of the constraint in this field's plan.
+     * @return The slot of the constraint.
+     */
+    public int getSlot(int index) {
+        return firstSlot + index;
+    }
+
+    /**
+     * @return The index of the {@link NotNull} constraint, or -1 if the field is not annotated with it.
+     */
+    public int getNotNullIndex() {
+        return notNullIndex;
+    }
+
+    /**
+     * Checks whether a non-null value of this reference field meets every constraint on the
+     * field's value, through the {@link FusedCheck} of the field.
+     *
+     * <p>This is the fast path for valid values. When it returns false, the constraints have to
+     * be checked one by one to find out which of them are violated.</p>
+     *
+     * <p>While a Flight Recorder recording enables the {@link SlowConstraintEvent}, the
+     * constraints are instead checked and timed one by one, in declaration order.</p>
+     *
+     * @param value The non-null value of the field.
+     * @return True if the value meets every constraint on the field's value.
+     */
+    public boolean isFastValid(Object value) {
+        if (ValidationEvents.isConstraintTimingEnabled()) {
+            return isTimedValid(value);
+        }
+        return fusedCheck.test(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isTimedValid(Object value) {
+        for (int i = 0; i < valueConstraintCount; i++) {
+            SlowConstraintEvent event = new SlowConstraintEvent();
+            event.begin();
+            boolean met = (!runtimeTypeChecks[i] || constraints[i].getType().isInstance(value))
+                    && ((Constraint<Object>) constraints[i]).isValid(value);
+            event.finish(this, i, met);
+            if (!met) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The fused check of the constraints on the field's value, or null for primitive fields.
+     */
+    public FusedCheck getFusedCheck() {
+        return fusedCheck;
+    }
+
+    /**
+     * Checks whether the constraint at the given index needs an {@code isInstance} check
+     * on every value, because the declared field type does not guarantee compatibility.
+     *
+     * @param index The index of the constraint.
+     * @return True if the value's type has to be checked at validation time.
+     */
+    public boolean requiresTypeCheck(int index) {
+        return runtimeTypeChecks[index];
+    }
+
+    /**
+     * @return True if the field carries a {@link NotNull} annotation.
+     */
+    public boolean isNotNull() {
+        return notNull;
+    }
+
+    /**
+     * @return True if validation cascades into the field's value.
+     */
+    public boolean isCascaded() {
+        return cascaded;
+    }
+
+    /**
+     * @return True if the field is declared with a primitive type.
+     */
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * Checks whether the constraint at the given index can never accept the value of this
+     * primitive field, because it does not accept the field's wrapper type.
+     *
+     * @param index The index of the constraint.
+     * @return True if the value of the field is a type mismatch for the constraint.
+     */
+    public boolean isMismatched(int index) {
+        return primitive && primitiveModes[index] == MISMATCH;
+    }
+
+    /**
+     * Returns the primitive specialization the constraint at the given index checks the value
+     * of this primitive field through.
+     *
+     * @param index The index of the constraint.
+     * @return {@link IntConstraint}, {@link LongConstraint} or {@link DoubleConstraint}, or
+     * null if the value is checked boxed, never met or always met.
+     */
+    public Class<?> getSpecialization(int index) {
+        if (!primitive) {
+            return null;
+        }
+        return switch (primitiveModes[index]) {
+            case INT -> IntConstraint.class;
+            case LONG -> LongConstraint.class;
+            case DOUBLE -> DoubleConstraint.class;
+            default -> null;
+        };
+    }
+
+    /**
+     * Checks the value of this primitive field against the constraint at the given index,
+     * without boxing it if the constraint has a matching primitive specialization.
+     *
+     * <p>A {@link NotNull} constraint is always met, as primitive values are never null, and
+     * a mismatched constraint is never met.</p>
+     *
+     * @param instance The object instance to read from.
+     * @param index    The index of the constraint.
+     * @return True if the value meets the constraint.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean isPrimitiveValid(Object instance, int index) {
+        return switch (primitiveModes[index]) {
+            case INT -> ((IntConstraint) constraints[index]).isValid(accessor.getInt(instance));
+            case LONG -> ((LongConstraint) constraints[index]).isValid(accessor.getLong(instance));
+            case DOUBLE -> ((DoubleConstraint) constraints[index]).isValid(accessor.getDouble(instance));
+            case ALWAYS_MET -> true;
+            case MISMATCH -> false;
+            default -> ((Constraint<Object>) constraints[index]).isValid(accessor.get(instance));
+        };
+    }
+
+    private static int indexOf(Class<? extends Annotation>[] annotationTypes, int count, Class<? extends Annotation> annotationType) {
+        for (int i = 0; i < count; i++) {
+            if (annotationTypes[i] == annotationType) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,186 @@
+package dev.revere.validation.plan;
+
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.NumericBound;
+import dev.revere.validation.constraints.impl.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The constraints on the value of a field merged into one check that tells whether a non-null
+ * value meets all of them.
+ *
+ * <p>The built-in constraints are fused where they test the same property of the value: the
+ * bounds of {@link MinLengthConstraint}, {@link MaxLengthConstraint} and
+ * {@link SizeConstraint} become one length interval, checked after a single type check and
+ * one {@code length()} call, and the bounds of {@link MinValueConstraint},
+ * {@link MaxValueConstraint} and {@link RangeConstraint} become one numeric interval.
+ * {@link NotEmptyConstraint} is checked by scanning the string instead of trimming it, and
+ * {@link NotNullConstraint} is dropped, as the value is known to be non-null. The remaining
+ * constraints run after the fused ones, cheapest first: pattern, email and date checks come
+ * after custom constraints, and blocking constraints come last.</p>
+ *
+ * <p>The fused check only decides whether the value is valid. Once it fails, the caller
+ * checks the constraints one by one in declaration order, so that the violations reported,
+ * and the first violation thrown, are the same as without fusion.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class FusedCheck {
+    private static final int CHEAP = 0;
+    private static final int EXPENSIVE = 1;
+    private static final int BLOCKING = 2;
+
+    private final boolean stringChecked;
+    private final int minLength;
+    private final int maxLength;
+    private final boolean notBlank;
+    private final boolean numeric;
+    private final NumericBound lower;
+    private final NumericBound upper;
+    private final Constraint<Object>[] checks;
+    private final Class<?>[] types;
+
+    /**
+     * @param constraints       The constraints of the field, of which the first {@code count} apply to its value.
+     * @param count             The number of constraints on the field's value.
+     * @param runtimeTypeChecks Whether each constraint needs an {@code isInstance} check on the value.
+     */
+    @SuppressWarnings("unchecked")
+    public FusedCheck(Constraint<?>[] constraints, int count, boolean[] runtimeTypeChecks) {
+        boolean string = false;
+        int min = Integer.MIN_VALUE;
+        int max = Integer.MAX_VALUE;
+        boolean blank = false;
+        boolean number = false;
+        double lowerValue = Double.NaN;
+        double upperValue = Double.NaN;
+        List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Constraint<?> constraint = constraints[i];
+            Class<?> type = constraint.getClass();
+            if (type == NotNullConstraint.class) {
+                continue;
+            }
+            if (type == MinLengthConstraint.class) {
+                min = Math.max(min, ((MinLengthConstraint) constraint).getMinLength());
+                string = true;
+            } else if (type == MaxLengthConstraint.class) {
+                max = Math.min(max, ((MaxLengthConstraint) constraint).getMaxLength());
+                string = true;
+            } else if (type == SizeConstraint.class) {
+                min = Math.max(min, ((SizeConstraint) constraint).getMin());
+                max = Math.min(max, ((SizeConstraint) constraint).getMax());
+                string = true;
+            } else if (type == NotEmptyConstraint.class) {
+                blank = true;
+                string = true;
+            } else if (type == MinValueConstraint.class) {
+                lowerValue = tighten(lowerValue, ((MinValueConstraint) constraint).getMinValue(), true);
+                number = true;
+            } else if (type == MaxValueConstraint.class) {
+                upperValue = tighten(upperValue, ((MaxValueConstraint) constraint).getMaxValue(), false);
+                number = true;
+            } else if (type == RangeConstraint.class) {
+                lowerValue = tighten(lowerValue, ((RangeConstraint) constraint).getMin(), true);
+                upperValue = tighten(upperValue, ((RangeConstraint) constraint).getMax(), false);
+                number = true;
+            } else {
+                remaining.add(i);
+            }
+        }
+        remaining.sort(Comparator.comparingInt(index -> cost(constraints[index])));
+
+        this.stringChecked = string;
+        this.minLength = min;
+        this.maxLength = max;
+        this.notBlank = blank;
+        this.numeric = number;
+        this.lower = NumericBound.lower(lowerValue);
+        this.upper = NumericBound.upper(upperValue);
+        this.checks = new Constraint[remaining.size()];
+        this.types = new Class<?>[remaining.size()];
+        for (int i = 0; i < checks.length; i++) {
+            int index = remaining.get(i);
+            checks[i] = (Constraint<Object>) constraints[index];
+            types[i] = runtimeTypeChecks[index] ? constraints[index].getType() : null;
+        }
+    }
+
+    /**
+     * Narrows a bound, ignoring {@code NaN} bounds, which never fail a value.
+     */
+    private static double tighten(double current, double bound, boolean lower) {
+        if (Double.isNaN(bound)) {
+            return current;
+        }
+        if (Double.isNaN(current)) {
+            return bound;
+        }
+        return lower ? Math.max(current, bound) : Math.min(current, bound);
+    }
+
+    private static int cost(Constraint<?> constraint) {
+        if (constraint.isBlocking()) {
+            return BLOCKING;
+        }
+        Class<?> type = constraint.getClass();
+        if (type == PatternConstraint.class || type == EmailConstraint.class
+                || type == FutureDateConstraint.class || type == PastDateConstraint.class) {
+            return EXPENSIVE;
+        }
+        return CHEAP;
+    }
+
+    /**
+     * @return The number of constraints still checked one by one after the fused checks.
+     */
+    public int getCheckCount() {
+        return checks.length;
+    }
+
+    /**
+     * Checks whether a non-null value meets every constraint the check was built from.
+     *
+     * @param value The non-null value of the field.
+     * @return True if the value meets every constraint; false if it violates at least one of
+     * them or does not have the type one of them accepts.
+     */
+    public boolean test(Object value) {
+        if (stringChecked) {
+            if (!(value instanceof String string)) {
+                return false;
+            }
+            int length = string.length();
+            if (length < minLength || length > maxLength || notBlank && isBlank(string)) {
+                return false;
+            }
+        }
+        if (numeric && (!(value instanceof Number number) || !lower.test(number) || !upper.test(number))) {
+            return false;
+        }
+        for (int i = 0; i < checks.length; i++) {
+            Class<?> type = types[i];
+            if (type != null && !type.isInstance(value) || !checks[i].isValid(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether {@code value.trim()} would be empty, without creating the trimmed string.
+     */
+    private static boolean isBlank(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
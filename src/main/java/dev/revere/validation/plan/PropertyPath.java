@@ -0,0 +1,63 @@
+package dev.revere.validation.plan;
+
+import java.util.ArrayDeque;
+
+/**
+ * The path from a validated object to a nested object, such as {@code items[3]}.
+ *
+ * <p>A path only links to its parent, so extending it while walking a deep object graph
+ * takes constant time. The string form is only built when it is requested.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class PropertyPath {
+    private final PropertyPath parent;
+    private final String property;
+    private final Object key;
+
+    private PropertyPath(PropertyPath parent, String property, Object key) {
+        this.parent = parent;
+        this.property = property;
+        this.key = key;
+    }
+
+    /**
+     * @param parent   The path of the object declaring the property, or null for the validated object.
+     * @param property The name of the property.
+     * @return The path of the property.
+     */
+    public static PropertyPath of(PropertyPath parent, String property) {
+        return new PropertyPath(parent, property, null);
+    }
+
+    /**
+     * @param key The index or map key of an element.
+     * @return The path of the element of the container at this path.
+     */
+    public PropertyPath element(Object key) {
+        return new PropertyPath(this, null, key);
+    }
+
+    @Override
+    public String toString() {
+        ArrayDeque<PropertyPath> nodes = new ArrayDeque<>();
+        for (PropertyPath node = this; node != null; node = node.parent) {
+            nodes.push(node);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (PropertyPath node : nodes) {
+            if (node.property == null) {
+                builder.append('[').append(node.key).append(']');
+            } else {
+                if (!builder.isEmpty()) {
+                    builder.append('.');
+                }
+                builder.append(node.property);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,272 @@
+package dev.revere.validation.plan;
+
+import dev.revere.validation.annotations.FutureDate;
+import dev.revere.validation.annotations.PastDate;
+import dev.revere.validation.compiler.CompiledValidator;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The precomputed validation plan for a class.
+ *
+ * <p>A plan is built once per class by the {@link dev.revere.validation.ConstraintProcessor}
+ * and lists every constrained field together with its resolved constraints, so that
+ * validating an instance only has to walk the plan instead of repeating reflection.</p>
+ *
+ * <p>The plan also carries the state of the tiered mode: the number of times it has been
+ * interpreted and, once compiled, the {@link CompiledValidator} generated for it.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ValidationPlan {
+    private final Class<?> type;
+    private final FieldPlan[] fields;
+    private final FieldPlan[] cascadedFields;
+    private final boolean elementConstraints;
+    private final boolean timeDependent;
+    private final boolean blockingConstraints;
+    private final boolean containerFields;
+    private final int constraintCount;
+    private final Map<String, Integer> fieldIndexes;
+    private final int componentCount;
+    private final int[] componentIndexes;
+    private final InvocationCounter invocations = new InvocationCounter();
+    private volatile boolean compilationAttempted;
+    private volatile CompiledValidator compiledValidator;
+
+    public ValidationPlan(Class<?> type, FieldPlan[] fields) {
+        this.type = type;
+        this.fields = fields;
+        int count = 0;
+        boolean dates = false;
+        boolean blocking = false;
+        for (FieldPlan field : fields) {
+            count += field.getSlotCount();
+            for (int i = 0; i < field.getSlotCount(); i++) {
+                dates |= field.getAnnotationType(i) == PastDate.class || field.getAnnotationType(i) == FutureDate.class;
+                blocking |= field.getConstraint(i).isBlocking();
+            }
+        }
+        this.constraintCount = count;
+        this.timeDependent = dates;
+        this.blockingConstraints = blocking;
+        this.elementConstraints = Arrays.stream(fields).anyMatch(FieldPlan::hasElements);
+        this.containerFields = Arrays.stream(fields).map(field -> field.getField().getType())
+                .anyMatch(fieldType -> fieldType.isArray() || Iterable.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(fieldType));
+        this.cascadedFields = Arrays.stream(fields).filter(FieldPlan::isCascaded).toArray(FieldPlan[]::new);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < fields.length; i++) {
+            indexes.put(fields[i].getName(), i);
+        }
+        this.fieldIndexes = Map.copyOf(indexes);
+
+        RecordComponent[] components = type.getRecordComponents();
+        this.componentCount = components == null ? 0 : components.length;
+        this.componentIndexes = new int[fields.length];
+        Arrays.fill(componentIndexes, -1);
+        for (int i = 0; components != null && i < components.length; i++) {
+            Integer field = fieldIndexes.get(components[i].getName());
+            if (field != null) {
+                componentIndexes[field] = i;
+            }
+        }
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public FieldPlan[] getFields() {
+        return fields;
+    }
+
+    /**
+     * @param name The name of a field.
+     * @return The index of the field in {@link #getFields()}, or -1 if the field has no
+     * constraints and is not cascaded.
+     */
+    public int getFieldIndex(String name) {
+        Integer index = fieldIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Resolves field names to their indexes in {@link #getFields()}.
+     *
+     * <p>Fields of the class without constraints are skipped, as there is nothing to check for
+     * them. The indexes are returned once each, in declaration order, whatever the order of
+     * the names.</p>
+     *
+     * @param names The names of fields declared by the class.
+     * @return The indexes of the constrained and cascaded fields among them.
+     * @throws IllegalArgumentException If the class does not declare a field with one of the names.
+     */
+    public int[] getFieldIndexes(String... names) {
+        boolean[] selected = new boolean[fields.length];
+        int count = 0;
+        for (String name : names) {
+            int index = getFieldIndex(name);
+            if (index < 0) {
+                requireDeclaredField(name);
+            } else if (!selected[index]) {
+                selected[index] = true;
+                count++;
+            }
+        }
+
+        int[] indexes = new int[count];
+        int position = 0;
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                indexes[position++] = i;
+            }
+        }
+        return indexes;
+    }
+
+    private void requireDeclaredField(String name) {
+        try {
+            type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalArgumentException("Class " + type.getName() + " has no field " + name);
+        }
+    }
+
+    /**
+     * @return The number of components of the class if it is a record, 0 otherwise.
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * @param fieldIndex The index of a field in {@link #getFields()}.
+     * @return The index of the record component the field stores, or -1 if the class is not a record.
+     */
+    public int getComponentIndex(int fieldIndex) {
+        return componentIndexes[fieldIndex];
+    }
+
+    /**
+     * @return The number of constraint slots of the class, which is the total number of
+     * constraints on all of its fields and their elements.
+     */
+    public int getConstraintCount() {
+        return constraintCount;
+    }
+
+    /**
+     * @return The fields annotated with {@link dev.revere.validation.annotations.Valid}, in declaration order.
+     */
+    public FieldPlan[] getCascadedFields() {
+        return cascadedFields;
+    }
+
+    /**
+     * @return True if validation cascades into at least one field.
+     */
+    public boolean hasCascades() {
+        return cascadedFields.length > 0;
+    }
+
+    /**
+     * @return True if at least one field declares constraints on the elements of its value.
+     */
+    public boolean hasElementConstraints() {
+        return elementConstraints;
+    }
+
+    /**
+     * @return True if a constrained or cascaded field holds an array, an {@link Iterable} or a
+     * {@link Map}, whose contents can change while the field keeps referring to it.
+     */
+    public boolean hasContainerFields() {
+        return containerFields;
+    }
+
+    /**
+     * @return True if a field or its elements are annotated with {@link PastDate} or
+     * {@link FutureDate}, whose outcome changes with the current time.
+     */
+    public boolean isTimeDependent() {
+        return timeDependent;
+    }
+
+    /**
+     * @return True if a field or its elements carry a
+     * {@link dev.revere.validation.constraints.Constraint#isBlocking() blocking} constraint,
+     * such as a lookup in a database, whose outcome depends on external state.
+     */
+    public boolean hasBlockingConstraints() {
+        return blockingConstraints;
+    }
+
+    /**
+     * @return True if the class has no constrained or cascaded fields.
+     */
+    public boolean isEmpty() {
+        return fields.length == 0;
+    }
+
+    /**
+     * Counts an interpreted validation of this plan. The counter is not synchronized, as it
+     * only needs to be roughly accurate to decide when the plan is worth compiling. It is
+     * padded onto a cache line of its own, so that threads counting validations do not
+     * invalidate the line holding the fields every validation reads.
+     *
+     * @return The number of recorded invocations.
+     */
+    public int recordInvocation() {
+        return ++invocations.count;
+    }
+
+    /**
+     * @return The compiled validator of this plan, or null if it has not been compiled.
+     */
+    public CompiledValidator getCompiledValidator() {
+        return compiledValidator;
+    }
+
+    /**
+     * @return True if compiling this plan has already been attempted.
+     */
+    public boolean isCompilationAttempted() {
+        return compilationAttempted;
+    }
+
+    /**
+     * Records the outcome of compiling this plan.
+     *
+     * @param compiledValidator The compiled validator, or null if compilation was not possible.
+     */
+    public void setCompiledValidator(CompiledValidator compiledValidator) {
+        this.compiledValidator = compiledValidator;
+        this.compilationAttempted = true;
+    }
+
+    /**
+     * Padding before the counter, as the fields of a superclass are laid out first.
+     */
+    @SuppressWarnings("unused")
+    private static class CounterPadding {
+        private long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private static class CounterValue extends CounterPadding {
+        protected int count;
+    }
+
+    /**
+     * The invocation counter of a plan, with padding before and after it so that it does not
+     * share a cache line with other objects.
+     */
+    @SuppressWarnings("unused")
+    private static final class InvocationCounter extends CounterValue {
+        private long q1, q2, q3, q4, q5, q6, q7;
+    }
+}
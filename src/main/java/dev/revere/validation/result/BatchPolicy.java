@@ -0,0 +1,21 @@
+package dev.revere.validation.result;
+
+/**
+ * How a batch of instances is validated.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public enum BatchPolicy {
+    /**
+     * Stops validating the batch as soon as an invalid instance is found. Instances that
+     * other threads were validating at that moment are still reported, so the result may
+     * contain more than one invalid instance.
+     */
+    FAIL_FAST,
+    /**
+     * Validates every instance of the batch.
+     */
+    COLLECT_ALL
+}
@@ -0,0 +1,110 @@
+package dev.revere.validation.result;
+
+import java.util.Arrays;
+
+/**
+ * The violations of a batch of instances, keyed by the index of each invalid instance.
+ *
+ * <p>Only invalid instances are stored: their indexes are kept in ascending order in an
+ * {@code int} array, next to the {@link ViolationReport} of each one, so a batch of mostly
+ * valid instances costs almost no memory.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class BatchResult {
+    private final int size;
+    private final int[] indexes;
+    private final ViolationReport[] reports;
+    private final boolean complete;
+
+    /**
+     * @param size     The number of instances in the batch.
+     * @param indexes  The indexes of the invalid instances, in ascending order.
+     * @param reports  The reports of the invalid instances, in the order of their indexes.
+     * @param complete Whether every instance of the batch was validated.
+     */
+    public BatchResult(int size, int[] indexes, ViolationReport[] reports, boolean complete) {
+        if (indexes.length != reports.length) {
+            throw new IllegalArgumentException("Expected one report per index");
+        }
+        this.size = size;
+        this.indexes = indexes;
+        this.reports = reports;
+        this.complete = complete;
+    }
+
+    /**
+     * @return The number of instances in the batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return True if no invalid instance was found.
+     */
+    public boolean isValid() {
+        return indexes.length == 0;
+    }
+
+    /**
+     * @return True if every instance of the batch was validated, false if a
+     * {@link BatchPolicy#FAIL_FAST fail-fast} batch stopped early.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return The number of invalid instances found.
+     */
+    public int getInvalidCount() {
+        return indexes.length;
+    }
+
+    /**
+     * @param position The position of the invalid instance, from 0 to {@link #getInvalidCount()} excluded.
+     * @return The index of the invalid instance in the batch.
+     */
+    public int getIndex(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * @param position The position of the invalid instance, from 0 to {@link #getInvalidCount()} excluded.
+     * @return The violations of the invalid instance.
+     */
+    public ViolationReport getReport(int position) {
+        return reports[position];
+    }
+
+    /**
+     * @param index The index of an instance in the batch.
+     * @return The violations of the instance, or null if none were found.
+     */
+    public ViolationReport getViolations(int index) {
+        int position = Arrays.binarySearch(indexes, index);
+        return position < 0 ? null : reports[position];
+    }
+
+    /**
+     * @return A copy of the indexes of the invalid instances, in ascending order.
+     */
+    public int[] getInvalidIndexes() {
+        return indexes.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("BatchResult[size=").append(size);
+        if (!complete) {
+            builder.append(", incomplete");
+        }
+        for (int i = 0; i < indexes.length; i++) {
+            builder.append(", ").append(indexes[i]).append('=').append(reports[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
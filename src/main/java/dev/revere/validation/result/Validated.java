@@ -0,0 +1,64 @@
+package dev.revere.validation.result;
+
+/**
+ * An element of a stream together with the outcome of its validation.
+ *
+ * <p>Valid elements carry no report, so wrapping them allocates nothing but this object.</p>
+ *
+ * @param <T> The type of the element.
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class Validated<T> {
+    private final T value;
+    private final ViolationReport report;
+
+    private Validated(T value, ViolationReport report) {
+        this.value = value;
+        this.report = report;
+    }
+
+    /**
+     * @param value The valid element.
+     * @return The element, marked as valid.
+     */
+    public static <T> Validated<T> valid(T value) {
+        return new Validated<>(value, null);
+    }
+
+    /**
+     * @param value  The invalid element.
+     * @param report The violations of the element.
+     * @return The element, marked as invalid.
+     */
+    public static <T> Validated<T> invalid(T value, ViolationReport report) {
+        if (report == null || report.isValid()) {
+            throw new IllegalArgumentException("Invalid element must have at least one violation");
+        }
+        return new Validated<>(value, report);
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return True if the element meets all of its constraints.
+     */
+    public boolean isValid() {
+        return report == null;
+    }
+
+    /**
+     * @return The violations of the element, or an empty report if it is valid.
+     */
+    public ViolationReport getReport() {
+        return report == null ? new ViolationReport(1) : report;
+    }
+
+    @Override
+    public String toString() {
+        return report == null ? "Valid[" + value + "]" : "Invalid[" + value + ", " + report + "]";
+    }
+}
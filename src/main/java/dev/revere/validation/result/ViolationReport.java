@@ -0,0 +1,267 @@
+package dev.revere.validation.result;
+
+import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.PropertyPath;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Every constraint violation found on an object, collected without throwing.
+ *
+ * <p>A report is backed by arrays that are allocated up front and only grow when an object
+ * has more violations than they can hold, so a report reused across validations of valid
+ * objects does not allocate. Violation messages are only built when {@link #getMessage} is
+ * called. A report keeps references to the offending values until it is {@link #clear cleared}
+ * or reused.</p>
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ViolationReport {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private static final byte NULL_VALUE = 0;
+    private static final byte TYPE_MISMATCH = 1;
+    private static final byte CONSTRAINT = 2;
+    private static final byte ELEMENT = 4;
+
+    private FieldPlan[] fields;
+    private PropertyPath[] paths;
+    private int[] constraintIndexes;
+    private byte[] kinds;
+    private Object[] values;
+    private Object[] keys;
+    private int size;
+    private PropertyPath pathPrefix;
+
+    public ViolationReport() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ViolationReport(int capacity) {
+        int initialCapacity = Math.max(capacity, 1);
+        this.fields = new FieldPlan[initialCapacity];
+        this.paths = new PropertyPath[initialCapacity];
+        this.constraintIndexes = new int[initialCapacity];
+        this.kinds = new byte[initialCapacity];
+        this.values = new Object[initialCapacity];
+        this.keys = new Object[initialCapacity];
+    }
+
+    /**
+     * Sets the property path of the object whose violations are added next, such as
+     * {@code items[3]}, or null for the validated object itself.
+     *
+     * @param pathPrefix The path of the object the next violations belong to.
+     */
+    public void setPathPrefix(PropertyPath pathPrefix) {
+        this.pathPrefix = pathPrefix;
+    }
+
+    /**
+     * Records that a field annotated with {@link NotNull} is null.
+     *
+     * @param field The plan of the field.
+     */
+    public void addNullValue(FieldPlan field) {
+        add(field, -1, NULL_VALUE, null);
+    }
+
+    /**
+     * Records that a field's value does not have the type a constraint accepts.
+     *
+     * @param field           The plan of the field.
+     * @param constraintIndex The index of the constraint in the field's plan.
+     * @param value           The value of the field.
+     */
+    public void addTypeMismatch(FieldPlan field, int constraintIndex, Object value) {
+        add(field, constraintIndex, TYPE_MISMATCH, value);
+    }
+
+    /**
+     * Records that a field's value does not meet a constraint.
+     *
+     * @param field           The plan of the field.
+     * @param constraintIndex The index of the constraint in the field's plan.
+     * @param value           The value of the field.
+     */
+    public void addViolation(FieldPlan field, int constraintIndex, Object value) {
+        add(field, constraintIndex, CONSTRAINT, value);
+    }
+
+    /**
+     * Records that an element of a field's value is null although the elements are annotated
+     * with {@link NotNull}.
+     *
+     * @param field           The plan of the field.
+     * @param constraintIndex The index of the element's {@code NotNull} constraint in the field's plan.
+     * @param key             The index or map key of the element.
+     */
+    public void addElementNullValue(FieldPlan field, int constraintIndex, Object key) {
+        addElement(field, constraintIndex, NULL_VALUE, key, null);
+    }
+
+    /**
+     * Records that an element of a field's value does not have the type an element constraint accepts.
+     *
+     * @param field           The plan of the field.
+     * @param constraintIndex The index of the element constraint in the field's plan.
+     * @param key             The index or map key of the element.
+     * @param value           The element.
+     */
+    public void addElementTypeMismatch(FieldPlan field, int constraintIndex, Object key, Object value) {
+        addElement(field, constraintIndex, TYPE_MISMATCH, key, value);
+    }
+
+    /**
+     * Records that an element of a field's value does not meet an element constraint.
+     *
+     * @param field           The plan of the field.
+     * @param constraintIndex The index of the element constraint in the field's plan.
+     * @param key             The index or map key of the element.
+     * @param value           The element.
+     */
+    public void addElementViolation(FieldPlan field, int constraintIndex, Object key, Object value) {
+        addElement(field, constraintIndex, CONSTRAINT, key, value);
+    }
+
+    private void addElement(FieldPlan field, int constraintIndex, byte kind, Object key, Object value) {
+        add(field, constraintIndex, (byte) (kind | ELEMENT), value);
+        keys[size - 1] = key;
+    }
+
+    private void add(FieldPlan field, int constraintIndex, byte kind, Object value) {
+        if (size == fields.length) {
+            int capacity = size * 2;
+            fields = Arrays.copyOf(fields, capacity);
+            paths = Arrays.copyOf(paths, capacity);
+            constraintIndexes = Arrays.copyOf(constraintIndexes, capacity);
+            kinds = Arrays.copyOf(kinds, capacity);
+            values = Arrays.copyOf(values, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+        }
+        fields[size] = field;
+        paths[size] = pathPrefix;
+        constraintIndexes[size] = constraintIndex;
+        kinds[size] = kind;
+        values[size] = value;
+        size++;
+    }
+
+    /**
+     * Removes all violations so that the report can be reused.
+     */
+    public void clear() {
+        Arrays.fill(fields, 0, size, null);
+        Arrays.fill(paths, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+        pathPrefix = null;
+    }
+
+    /**
+     * @return True if no violations were found.
+     */
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    /**
+     * @return The number of violations.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index The index of the violation.
+     * @return The name of the field that caused the violation.
+     */
+    public String getField(int index) {
+        return fields[checkIndex(index)].getName();
+    }
+
+    /**
+     * @param index The index of the violation.
+     * @return The property path of the field that caused the violation, such as
+     * {@code items[3].sku} for a field of a cascaded object or {@code readings[12]} for an
+     * element of a field's value, or the field name otherwise.
+     */
+    public String getPath(int index) {
+        PropertyPath prefix = paths[checkIndex(index)];
+        String name = getName(index);
+        return prefix == null ? name : prefix + "." + name;
+    }
+
+    /**
+     * @return The field name, followed by the index or key of the element for element violations.
+     */
+    private String getName(int index) {
+        String name = fields[index].getName();
+        return (kinds[index] & ELEMENT) == 0 ? name : name + "[" + keys[index] + "]";
+    }
+
+    /**
+     * @param index The index of the violation.
+     * @return The annotation type of the violated constraint.
+     */
+    public Class<? extends Annotation> getConstraintType(int index) {
+        checkIndex(index);
+        return (kinds[index] & ~ELEMENT) == NULL_VALUE ? NotNull.class : fields[index].getAnnotationType(constraintIndexes[index]);
+    }
+
+    /**
+     * Builds the message of a violation. The message is the same as the one of the
+     * {@link dev.revere.validation.exceptions.ConstraintViolationException} thrown for the
+     * violation by the fail-fast validation.
+     *
+     * @param index The index of the violation.
+     * @return The violation message.
+     */
+    @SuppressWarnings("unchecked")
+    public String getMessage(int index) {
+        FieldPlan field = fields[checkIndex(index)];
+        return switch (kinds[index] & ~ELEMENT) {
+            case NULL_VALUE -> "Field " + getName(index) + " cannot be null";
+            case TYPE_MISMATCH -> "Field type mismatch for field " + getName(index);
+            default -> ((Constraint<Object>) field.getConstraint(constraintIndexes[index])).getMessage(values[index]);
+        };
+    }
+
+    /**
+     * @return The messages of all violations, in the order they were found.
+     */
+    public List<String> getMessages() {
+        List<String> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(getMessage(i));
+        }
+        return messages;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size + " violations");
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ViolationReport[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(getPath(i)).append(": ").append(getMessage(i));
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,194 @@
+package dev.revere.validation.stream;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.result.Validated;
+import dev.revere.validation.result.ViolationReport;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Processor} that validates every element it receives and publishes it as a
+ * {@link Validated} element.
+ *
+ * <p>Each element is published as soon as it was validated and demand from the subscriber is
+ * passed to the upstream publisher unchanged, so the processor honours backpressure and never
+ * buffers elements. It accepts a single subscriber.</p>
+ *
+ * <p>Each element is checked once, into a report that is reused while elements are valid;
+ * an invalid element is published with its report, and the next one gets a new report.</p>
+ *
+ * <p>If validating an element throws, the upstream subscription is cancelled and the
+ * exception is signalled to the subscriber through {@code onError}, as {@code onNext} must not
+ * throw. Signals arriving from upstream afterwards are ignored.</p>
+ *
+ * @param <T> The type of the elements.
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public final class ValidatingProcessor<T> implements Flow.Processor<T, Validated<T>> {
+    private final ValidationEngine engine;
+    private final Object lock = new Object();
+    private volatile Flow.Subscriber<? super Validated<T>> subscriber;
+    private Flow.Subscription upstream;
+    private long pendingDemand;
+    private boolean pendingCancel;
+    private boolean terminated;
+    private Throwable error;
+    private volatile boolean failed;
+    private ViolationReport report = new ViolationReport();
+
+    public ValidatingProcessor(ValidationEngine engine) {
+        this.engine = engine;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Validated<T>> subscriber) {
+        boolean deliverTerminal;
+        Throwable terminalError;
+        synchronized (lock) {
+            if (this.subscriber != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("ValidatingProcessor accepts a single subscriber"));
+                return;
+            }
+            this.subscriber = subscriber;
+            deliverTerminal = terminated;
+            terminalError = error;
+        }
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                Flow.Subscription subscription;
+                synchronized (lock) {
+                    subscription = upstream;
+                    if (subscription == null) {
+                        pendingDemand = n <= 0 || pendingDemand < 0 ? Math.min(pendingDemand, n) : addDemand(pendingDemand, n);
+                        return;
+                    }
+                }
+                subscription.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                Flow.Subscription subscription;
+                synchronized (lock) {
+                    subscription = upstream;
+                    if (subscription == null) {
+                        pendingCancel = true;
+                        return;
+                    }
+                }
+                subscription.cancel();
+            }
+        });
+
+        if (deliverTerminal) {
+            signalTerminal(subscriber, terminalError);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        long demand;
+        boolean cancel;
+        synchronized (lock) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            demand = pendingDemand;
+            cancel = pendingCancel;
+            pendingDemand = 0;
+        }
+
+        if (cancel) {
+            subscription.cancel();
+        } else if (demand != 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (failed) {
+            return;
+        }
+        Validated<T> validated;
+        try {
+            validated = engine.validated(item, report);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable e) {
+            fail(e);
+            return;
+        }
+        if (!validated.isValid()) {
+            report = new ViolationReport();
+        }
+        subscriber.onNext(validated);
+    }
+
+    /**
+     * Cancels the upstream subscription and signals the failure downstream.
+     */
+    private void fail(Throwable throwable) {
+        failed = true;
+        Flow.Subscription subscription;
+        synchronized (lock) {
+            subscription = upstream;
+        }
+        subscription.cancel();
+        terminate(throwable);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        terminate(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        terminate(null);
+    }
+
+    private void terminate(Throwable throwable) {
+        Flow.Subscriber<? super Validated<T>> current;
+        synchronized (lock) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            error = throwable;
+            current = subscriber;
+            if (current == null) {
+                return;
+            }
+        }
+        signalTerminal(current, throwable);
+    }
+
+    private static void signalTerminal(Flow.Subscriber<?> subscriber, Throwable throwable) {
+        if (throwable == null) {
+            subscriber.onComplete();
+        } else {
+            subscriber.onError(throwable);
+        }
+    }
+
+    private static long addDemand(long current, long n) {
+        long sum = current + n;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
@@ -2,13 +2,32 @@ package dev.revere.validation;
 
 import dev.revere.validation.ConstraintProcessor;
 import dev.revere.validation.annotations.*;
+import dev.revere.validation.compiler.CompiledValidator;
+import dev.revere.validation.constraints.Constraint;
+import dev.revere.validation.constraints.impl.MinLengthConstraint;
+import dev.revere.validation.constraints.impl.NotEmptyConstraint;
+import dev.revere.validation.constraints.impl.PatternConstraint;
 import dev.revere.validation.exceptions.ConstraintViolationException;
+import dev.revere.validation.plan.FieldPlan;
+import dev.revere.validation.plan.ValidationPlan;
+import dev.revere.validation.result.ViolationReport;
 import org.junit.jupiter.api.Test;
 
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Remi
@@ -182,6 +201,452 @@ public class ConstraintProcessorTest {
                 "User with an invalid email should throw ConstraintViolationException.");
     }
 
+    @Test
+    public void testPatternIsCompiledOnceAcrossClasses() {
+        PatternConstraint first = (PatternConstraint) processor.getPlan(PatternUser.class).getFields()[0].getConstraint(0);
+        PatternConstraint second = (PatternConstraint) processor.getPlan(CodeUser.class).getFields()[0].getConstraint(0);
+        PatternConstraint insensitive = (PatternConstraint) processor.getPlan(CodeUser.class).getFields()[1].getConstraint(0);
+        assertSame(first.getPattern(), second.getPattern(), "Identical patterns should share one compiled instance.");
+        assertEquals(java.util.regex.Pattern.CASE_INSENSITIVE, insensitive.getPattern().flags(), "Pattern flags should be applied.");
+    }
+
+    @Test
+    public void testPatternFlagsAndCharSequenceValues() {
+        assertDoesNotThrow(() -> processor.applyConstraints(new CodeUser("abc", "ABC")),
+                "Case-insensitive pattern should accept upper case letters.");
+        assertDoesNotThrow(() -> processor.applyConstraints(new CodeUser(new StringBuilder("abc"), "abc")),
+                "Pattern should match any CharSequence.");
+        assertThrows(ConstraintViolationException.class, () -> processor.applyConstraints(new CodeUser("ab-c", "abc")),
+                "CharSequence not matching the pattern should throw ConstraintViolationException.");
+    }
+
+    @Test
+    public void testPlanIsCachedPerClass() {
+        ValidationPlan plan = processor.getPlan(User.class);
+        assertSame(plan, processor.getPlan(User.class), "Plan should be built once and reused.");
+        assertEquals(2, plan.getFields().length, "Plan should contain both constrained fields.");
+    }
+
+    @Test
+    public void testRegisterFactoryWhileValidatingConcurrently() throws Exception {
+        ConstraintProcessor sharedProcessor = new ConstraintProcessor();
+        sharedProcessor.setCompilationThreshold(100);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> validators = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                validators.add(executor.submit(() -> {
+                    int validations = 0;
+                    while (running.get() || validations < 1000) {
+                        assertTrue(sharedProcessor.isValid(new User("validUser", "pass")));
+                        assertFalse(sharedProcessor.isValid(new User("usr", "pass")));
+                        assertThrows(ConstraintViolationException.class, () -> sharedProcessor.applyConstraints(new User("usr", "pass")));
+                        sharedProcessor.applyConstraints(new User("validUser", "pass"));
+                        validations++;
+                    }
+                    return validations;
+                }));
+            }
+
+            ConstraintRegistry initial = sharedProcessor.getRegistry();
+            for (int i = 0; i < 200; i++) {
+                sharedProcessor.registerFactory(MinLength.class, new ConstraintFactory<>() {
+                    @Override
+                    public Constraint<?> create(MinLength annotation) {
+                        return new MinLengthConstraint(annotation.value());
+                    }
+
+                    @Override
+                    public Class<MinLength> getAnnotationType() {
+                        return MinLength.class;
+                    }
+                });
+            }
+            running.set(false);
+            for (Future<Integer> validator : validators) {
+                assertTrue(validator.get(30, TimeUnit.SECONDS) >= 1000);
+            }
+            assertEquals(initial.getVersion() + 200, sharedProcessor.getRegistry().getVersion(), "Every registration should publish a new registry.");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRegisterFactoryInvalidatesPlans() {
+        ConstraintProcessor customProcessor = new ConstraintProcessor();
+        ValidationPlan plan = customProcessor.getPlan(CustomUser.class);
+        assertTrue(plan.isEmpty(), "Annotation without a factory should not be part of the plan.");
+
+        customProcessor.registerFactory(Custom.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(Custom annotation) {
+                return new NotEmptyConstraint();
+            }
+
+            @Override
+            public Class<Custom> getAnnotationType() {
+                return Custom.class;
+            }
+        });
+
+        assertNotSame(plan, customProcessor.getPlan(CustomUser.class), "Registering a factory should rebuild cached plans.");
+        assertThrows(ConstraintViolationException.class, () -> customProcessor.applyConstraints(new CustomUser("")),
+                "Custom constraint should apply after registration.");
+    }
+
+    @Test
+    public void testCompiledValidatorIsInstalledAfterThreshold() throws Exception {
+        ConstraintProcessor compilingProcessor = new ConstraintProcessor();
+        compilingProcessor.setCompilationThreshold(2);
+        User validUser = new User("validUser", "valid");
+        for (int i = 0; i < 2; i++) {
+            compilingProcessor.applyConstraints(validUser);
+        }
+        assertNull(compilingProcessor.getPlan(User.class).getCompiledValidator(), "Plan should be interpreted up to the threshold.");
+
+        compilingProcessor.applyConstraints(validUser);
+        CompiledValidator compiledValidator = compilingProcessor.getPlan(User.class).getCompiledValidator();
+        assertNotNull(compiledValidator, "Plan should be compiled once the threshold is crossed.");
+        assertTrue(compiledValidator.getClass().isHidden(), "Compiled validator should be a hidden class.");
+    }
+
+    @Test
+    public void testFailedCompilationLeavesPlanInterpreted() throws Exception {
+        AtomicBoolean broken = new AtomicBoolean();
+        ConstraintProcessor compilingProcessor = new ConstraintProcessor();
+        compilingProcessor.setCompilationThreshold(0);
+        compilingProcessor.registerFactory(Custom.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(Custom annotation) {
+                return new Constraint<String>() {
+                    @Override
+                    public void validate(String value) throws ConstraintViolationException {
+                        if (value.isEmpty()) {
+                            throw new ConstraintViolationException("Tag must not be empty");
+                        }
+                    }
+
+                    @Override
+                    public Class<String> getType() {
+                        if (broken.getAndSet(false)) {
+                            throw new IllegalStateException("Generator bug");
+                        }
+                        return String.class;
+                    }
+                };
+            }
+
+            @Override
+            public Class<Custom> getAnnotationType() {
+                return Custom.class;
+            }
+        });
+        ValidationPlan plan = compilingProcessor.getPlan(TaggedUser.class);
+        broken.set(true);
+
+        assertDoesNotThrow(() -> compilingProcessor.applyConstraints(new TaggedUser("tag")),
+                "The validation that triggers a failed compilation should still be validated.");
+        assertTrue(plan.isCompilationAttempted());
+        assertNull(plan.getCompiledValidator(), "A plan that failed to compile should stay interpreted.");
+        assertThrows(ConstraintViolationException.class, () -> compilingProcessor.applyConstraints(new TaggedUser("")));
+    }
+
+    static class TaggedUser {
+        @Custom
+        private final Object tag;
+
+        public TaggedUser(Object tag) {
+            this.tag = tag;
+        }
+    }
+
+    @Test
+    public void testCompiledValidatorMatchesInterpreter() {
+        ConstraintProcessor interpreter = new ConstraintProcessor();
+        interpreter.setCompilationThreshold(-1);
+        ConstraintProcessor compiler = new ConstraintProcessor();
+        compiler.setCompilationThreshold(0);
+
+        Object[] instances = {
+                new User("validUser", "valid"), new User("us", "short"), new User("validUser", "thisPasswordIsWayTooLong"),
+                new User(null, null), new EmailUser("valid.email@example.com"), new EmailUser("invalid-email"),
+                new RangeUser(5), new RangeUser(15), new RangeUser(null), new PatternUser("valid123"), new PatternUser("invalid!@#"),
+                new SizeUser("valid"), new SizeUser("tooLongString"), new SizeUser("no"), new ValueUser(50.0), new ValueUser(150.0),
+                new ValueUser(1.0), new ValueUser(Double.NaN), new NotEmptyUser(" "), new NotEmptyUser("non-empty"),
+                new NotNullUser(null), new NotNullUser("not null"), new DateUser(LocalDate.now().minusDays(1)),
+                new PastDateUser(LocalDate.now().minusDays(1)), new MixedUser("value", 3, 5), new MixedUser(42, 3, 5),
+                new MixedUser("value", 30, 5), new MixedUser("value", 3, 50), new CountUser(5, 3, 1L << 53, BigDecimal.ONE),
+                new CountUser(-1, 3, 0, BigDecimal.ONE), new CountUser(5, 3, (1L << 53) + 1, BigDecimal.ONE),
+                new CountUser(5, 0, 0, BigDecimal.ONE), new CountUser(5, 3, 0, new BigDecimal("1.0000000000000000001"))
+        };
+        for (Object instance : instances) {
+            assertEquals(violationOf(interpreter, instance), violationOf(compiler, instance),
+                    "Compiled validator should report the same violation for " + instance.getClass().getSimpleName());
+        }
+        assertNotNull(compiler.getPlan(MixedUser.class).getCompiledValidator(), "Mixed plan should have been compiled.");
+        assertNotNull(compiler.getPlan(CountUser.class).getCompiledValidator(), "Plan with primitive fields should have been compiled.");
+    }
+
+    private static String violationOf(ConstraintProcessor processor, Object instance) {
+        try {
+            processor.applyConstraints(instance);
+            return null;
+        } catch (ConstraintViolationException | IllegalAccessException e) {
+            return e.getMessage();
+        }
+    }
+
+    static class MixedUser {
+        @NotNull
+        @MinLength(2)
+        private final Object value;
+        @Range(min = 1, max = 10)
+        private final Number number;
+        @NotNull
+        @MaxValue(10)
+        private final int primitive;
+
+        public MixedUser(Object value, Number number, int primitive) {
+            this.value = value;
+            this.number = number;
+            this.primitive = primitive;
+        }
+    }
+
+    @Test
+    public void testPrimitiveAndDecimalFieldsAreComparedExactly() {
+        assertDoesNotThrow(() -> processor.applyConstraints(new CountUser(5, 3, 1L << 53, BigDecimal.ONE)),
+                "Primitive fields within their bounds should pass.");
+        assertThrows(ConstraintViolationException.class, () -> processor.applyConstraints(new CountUser(-1, 3, 0, BigDecimal.ONE)),
+                "An int below @MinValue should fail instead of being a type mismatch.");
+        assertFalse(processor.isValid(new CountUser(5, 3, (1L << 53) + 1, BigDecimal.ONE)),
+                "2^53 + 1 rounds to 2^53 as a double but should still fail.");
+        assertFalse(processor.isValid(new CountUser(5, 0, 0, BigDecimal.ONE)), "A short below 0.5 should fail.");
+        assertFalse(processor.isValid(new CountUser(5, 3, 0, new BigDecimal("1.0000000000000000001"))),
+                "A decimal just above the bound rounds to 1.0 as a double but should still fail.");
+        assertTrue(processor.isValid(new CountUser(5, 3, 0, new BigDecimal("0.9999999999999999999"))));
+
+        ViolationReport report = new ViolationReport();
+        processor.collectViolations(new CountUser(-1, 3, 0, BigDecimal.ONE), report);
+        assertEquals(List.of("Value must be at least 0.0"), report.getMessages());
+        assertEquals("count", report.getField(0));
+    }
+
+    @Test
+    public void testCharFieldsAreTypeMismatchesForNumericConstraints() {
+        FieldPlan grade = processor.getPlan(GradeUser.class).getFields()[0];
+        assertTrue(grade.isMismatched(0), "A char is not a Number, so @MinValue can never accept it.");
+        assertNull(grade.getSpecialization(0), "A char should not be checked through IntConstraint.");
+        assertFalse(processor.isValid(new GradeUser('B')));
+        assertEquals(List.of("Field type mismatch for field grade"), separateViolations(processor.getPlan(GradeUser.class), new GradeUser('B')));
+    }
+
+    static class GradeUser {
+        @MinValue(0)
+        private final char grade;
+
+        public GradeUser(char grade) {
+            this.grade = grade;
+        }
+    }
+
+    static class CountUser {
+        @NotNull
+        @MinValue(0)
+        private final int count;
+        @Range(min = 0.5, max = 5)
+        private final short level;
+        @MaxValue(0x1p53)
+        private final long id;
+        @MaxValue(1)
+        private final BigDecimal ratio;
+
+        public CountUser(int count, int level, long id, BigDecimal ratio) {
+            this.count = count;
+            this.level = (short) level;
+            this.id = id;
+            this.ratio = ratio;
+        }
+    }
+
+    @Test
+    public void testFusedChecksReportSameViolationsAsSeparateConstraints() {
+        ValidationPlan plan = processor.getPlan(FusedUser.class);
+        assertEquals(1, plan.getFields()[0].getFusedCheck().getCheckCount(), "Only the pattern should remain unfused.");
+        assertEquals(0, plan.getFields()[2].getFusedCheck().getCheckCount(), "Numeric bounds should be fused.");
+
+        Object[][] values = {
+                {"alice", "abc", 5}, {null, "abc", 5}, {"   ", "abc", 5}, {"al", "abc", 5}, {"Alice", "abc", 5},
+                {"a very long name indeed", "abc", 5}, {"alice", "ab", 5}, {"alice", "abcdef", 5}, {"alice", 42, 5},
+                {"alice", "abc", -1}, {"alice", "abc", 9}, {"alice", "abc", new BigDecimal("8.0000000000000000001")},
+                {"alice", "abc", "text"}, {"al ", 7, 20}
+        };
+        for (Object[] value : values) {
+            FusedUser user = new FusedUser((String) value[0], value[1], value[2]);
+            ViolationReport report = new ViolationReport();
+            processor.collectViolations(user, report);
+            List<String> expected = separateViolations(plan, user);
+            assertEquals(expected, report.getMessages(), () -> "Violations of " + List.of(value));
+            assertEquals(expected.isEmpty(), processor.isValid(user));
+            assertEquals(expected.isEmpty() ? null : expected.get(0), violationOf(processor, user));
+        }
+    }
+
+    /**
+     * Checks every constraint of the plan on its own, in declaration order.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<String> separateViolations(ValidationPlan plan, Object instance) {
+        List<String> messages = new ArrayList<>();
+        for (FieldPlan field : plan.getFields()) {
+            Object value = field.get(instance);
+            if (value == null) {
+                if (field.isNotNull()) {
+                    messages.add("Field " + field.getName() + " cannot be null");
+                }
+                continue;
+            }
+            for (int i = 0; i < field.getConstraintCount(); i++) {
+                Constraint<Object> constraint = (Constraint<Object>) field.getConstraint(i);
+                if (!constraint.getType().isInstance(value)) {
+                    messages.add("Field type mismatch for field " + field.getName());
+                } else if (!constraint.isValid(value)) {
+                    messages.add(constraint.getMessage(value));
+                }
+            }
+        }
+        return messages;
+    }
+
+    static class FusedUser {
+        @NotNull
+        @NotEmpty
+        @Pattern("^[a-z ]+$")
+        @MinLength(3)
+        @MaxLength(20)
+        private final String name;
+        @Size(min = 2, max = 5)
+        @MinLength(3)
+        private final Object code;
+        @MinValue(0)
+        @Range(min = -5, max = 10)
+        @MaxValue(8)
+        private final Object amount;
+
+        public FusedUser(String name, Object code, Object amount) {
+            this.name = name;
+            this.code = code;
+            this.amount = amount;
+        }
+    }
+
+    @Test
+    public void testRecordsArePlannedFromTheirComponents() {
+        ConstraintProcessor interpreter = new ConstraintProcessor();
+        interpreter.setCompilationThreshold(-1);
+        ConstraintProcessor compiler = new ConstraintProcessor();
+        compiler.setCompilationThreshold(0);
+        for (ConstraintProcessor recordProcessor : List.of(interpreter, compiler)) {
+            recordProcessor.registerFactory(Carrier.class, new ConstraintFactory<>() {
+                @Override
+                public Constraint<?> create(Carrier annotation) {
+                    return new NotEmptyConstraint();
+                }
+
+                @Override
+                public Class<Carrier> getAnnotationType() {
+                    return Carrier.class;
+                }
+            });
+        }
+
+        ValidationPlan plan = interpreter.getPlan(Shipment.class);
+        assertEquals(3, plan.getComponentCount());
+        assertEquals(List.of("carrier", "reference", "parcels"), List.of(plan.getFields()[0].getName(), plan.getFields()[1].getName(), plan.getFields()[2].getName()));
+        assertNotNull(violationOf(interpreter, new Shipment(" ", "REF-1", 1)), "A constraint targeting only record components should apply.");
+        assertNotNull(violationOf(interpreter, new Shipment("DHL", " ab ", 1)), "Components should be read through their accessor.");
+
+        Object[] instances = {new Shipment("DHL", "REF-1", 2), new Shipment(" ", "REF-1", 1), new Shipment("DHL", " ab ", 1), new Shipment("DHL", "REF-1", 0)};
+        for (Object instance : instances) {
+            assertEquals(violationOf(interpreter, instance), violationOf(compiler, instance));
+        }
+        assertNotNull(compiler.getPlan(Shipment.class).getCompiledValidator(), "Record plan should have been compiled.");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.RECORD_COMPONENT)
+    @interface Carrier {
+    }
+
+    record Shipment(@Carrier String carrier, @MinLength(3) String reference, @MinValue(1) int parcels) {
+        @Override
+        public String reference() {
+            return reference.strip();
+        }
+    }
+
+    @Test
+    public void testServiceLoaderFactoryIsRegistered() {
+        assertDoesNotThrow(() -> processor.applyConstraints(new LowercaseUser("lower")),
+                "Lowercase value should pass the service-provided constraint.");
+        assertThrows(ConstraintViolationException.class, () -> processor.applyConstraints(new LowercaseUser("Upper")),
+                "Uppercase value should fail the service-provided constraint.");
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface Lowercase {
+    }
+
+    public static class LowercaseConstraintFactory implements ConstraintFactory<Lowercase> {
+        @Override
+        public Constraint<String> create(Lowercase annotation) {
+            return new Constraint<>() {
+                @Override
+                public void validate(String value) throws ConstraintViolationException {
+                    if (!value.equals(value.toLowerCase())) {
+                        throw new ConstraintViolationException("Value must be lowercase");
+                    }
+                }
+
+                @Override
+                public Class<String> getType() {
+                    return String.class;
+                }
+            };
+        }
+
+        @Override
+        public Class<Lowercase> getAnnotationType() {
+            return Lowercase.class;
+        }
+    }
+
+    static class LowercaseUser {
+        @Lowercase
+        private final String value;
+
+        public LowercaseUser(String value) {
+            this.value = value;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface Custom {
+    }
+
+    static class CustomUser {
+        @Custom
+        private final String value;
+
+        public CustomUser(String value) {
+            this.value = value;
+        }
+    }
+
     static class User {
         @MinLength(5)
         private final String username;
@@ -239,6 +704,18 @@ public class ConstraintProcessorTest {
         }
     }
 
+    static class CodeUser {
+        @Pattern("^[a-zA-Z0-9]*$")
+        private final CharSequence code;
+        @Pattern(value = "^[a-z0-9]*$", flags = java.util.regex.Pattern.CASE_INSENSITIVE)
+        private final String alias;
+
+        public CodeUser(CharSequence code, String alias) {
+            this.code = code;
+            this.alias = alias;
+        }
+    }
+
     static class SizeUser {
         @Size(min = 3, max = 10)
         private final String value;
@@ -3,14 +3,47 @@ package dev.revere.validation;
 
 import dev.revere.validation.ValidationEngine;
 import dev.revere.validation.annotations.*;
+import dev.revere.validation.cache.ResultCache;
+import dev.revere.validation.constraints.Constraint;
 import dev.revere.validation.exceptions.ConstraintViolationException;
+import dev.revere.validation.metrics.ValidationStats;
+import dev.revere.validation.result.BatchPolicy;
+import dev.revere.validation.result.BatchResult;
+import dev.revere.validation.result.Validated;
+import dev.revere.validation.result.ViolationReport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
-
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Remi
@@ -102,6 +135,780 @@ public class ValidationEngineTest {
                 "User with null field should throw ConstraintViolationException.");
     }
 
+    @Test
+    public void testValidateAllCollectsEveryViolation() {
+        ViolationReport report = engine.validateAll(new Profile(null, "us", 15));
+        assertEquals(3, report.size(), "Every invalid field should be reported.");
+        assertEquals(List.of("name", "nickname", "level"), List.of(report.getField(0), report.getField(1), report.getField(2)));
+        assertEquals(NotNull.class, report.getConstraintType(0));
+        assertEquals(MinLength.class, report.getConstraintType(1));
+        assertEquals(Range.class, report.getConstraintType(2));
+        assertEquals(List.of("Field name cannot be null", "String length must be at least 3", "Value must be between 1.00 and 10.00"),
+                report.getMessages());
+    }
+
+    @Test
+    public void testValidateAllReportsEveryConstraintOfAField() {
+        ViolationReport report = engine.validateAll(new Profile("name", "x", 5));
+        assertEquals(List.of("String length must be at least 3", "Value does not match the pattern"), report.getMessages());
+    }
+
+    @Test
+    public void testValidateAllMatchesFailFastMessage() {
+        Profile profile = new Profile("name", "nick", 15);
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class, () -> engine.validate(profile));
+        assertEquals(exception.getMessage(), engine.validateAll(profile).getMessage(0));
+    }
+
+    @Test
+    public void testValidateAllReusesReport() {
+        ViolationReport report = engine.validateAll(new Profile(null, "us", 15));
+        assertSame(report, engine.validateAll(new Profile("name", "nick", 5), report));
+        assertTrue(report.isValid(), "Reused report should be cleared before validation.");
+    }
+
+    @Test
+    public void testIsValid() {
+        assertTrue(engine.isValid(new Profile("name", "nick", 5)));
+        assertFalse(engine.isValid(new Profile(null, "nick", 5)));
+        assertFalse(engine.isValid(new Profile("name", "NICK", 5)));
+    }
+
+    @Test
+    public void testFailureMaskHasOneBitPerConstraintSlot() {
+        assertEquals(4, engine.getPlan(Profile.class).getConstraintCount());
+        assertEquals(0L, engine.failureMask(new Profile("name", "nick", 5)));
+        assertEquals(0b0001L, engine.failureMask(new Profile(null, "nick", 5)));
+        assertEquals(0b0110L, engine.failureMask(new Profile("name", "x", 5)));
+        assertEquals(0b1001L, engine.failureMask(new Profile(null, "nick", 15)));
+        assertEquals(BitSet.valueOf(new long[]{0b1001L}), engine.failureMask(new Profile(null, "nick", 15), new BitSet()));
+    }
+
+    @Test
+    public void testViolationExceptionsAreStackless() {
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class,
+                () -> engine.validate(new Profile(null, "nick", 5)));
+        assertEquals(0, exception.getStackTrace().length, "Violation exceptions should not capture a stack trace.");
+    }
+
+    @Test
+    public void testValidateBatchReportsInvalidIndexes() {
+        List<Profile> profiles = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            profiles.add(i % 1000 == 7 ? new Profile(null, "us", 5) : new Profile("name", "nick", 5));
+        }
+        BatchResult result = engine.validateBatch(profiles);
+        assertTrue(result.isComplete(), "Collect-all batch should validate every instance.");
+        assertEquals(10_000, result.size());
+        assertEquals(10, result.getInvalidCount(), "Every invalid instance should be reported.");
+        for (int i = 0; i < result.getInvalidCount(); i++) {
+            assertEquals(i * 1000 + 7, result.getIndex(i), "Invalid instances should be reported in index order.");
+        }
+        assertEquals(List.of("Field name cannot be null", "String length must be at least 3"), result.getViolations(1007).getMessages());
+        assertNull(result.getViolations(1008), "Valid instances should have no report.");
+    }
+
+    @Test
+    public void testValidateBatchFailFastOnExecutor() {
+        Object[] instances = new Object[5_000];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = i % 2 == 0 ? new User("validUser", "validPass") : new RangeUser(i < 100 ? 15 : 5);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BatchResult result = engine.validateBatch(instances, BatchPolicy.FAIL_FAST, executor);
+            assertFalse(result.isValid(), "Fail-fast batch should report an invalid instance.");
+            assertTrue(result.getInvalidCount() < 50, "Fail-fast batch should stop early.");
+            assertFalse(result.isComplete(), "Fail-fast batch should not validate every instance.");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testValidateBatchRejectsNullInstances() {
+        assertThrows(IllegalArgumentException.class, () -> engine.validateBatch(new Profile[]{new Profile("name", "nick", 5), null}),
+                "Batch with a null instance should throw IllegalArgumentException.");
+    }
+
+    @Test
+    public void testValidateAsyncRunsBlockingConstraintsConcurrently() throws Exception {
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(Available.class, new AvailableConstraintFactory());
+        ValidationEngine asyncEngine = new ValidationEngine(processor);
+
+        long start = System.nanoTime();
+        ViolationReport report = asyncEngine.validateAsync(new Signup("taken", "free", "taken", "x")).get(5, TimeUnit.SECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(List.of("username", "nickname", "code"), List.of(report.getField(0), report.getField(1), report.getField(2)),
+                "Violations should be reported in field order.");
+        assertEquals(List.of("Value is already taken", "Value is already taken", "String length must be at least 3"), report.getMessages());
+        assertTrue(elapsedMillis < 3 * AvailableConstraint.LOOKUP_MILLIS, "Lookups should run concurrently, took " + elapsedMillis + " ms.");
+    }
+
+    @Test
+    public void testValidateAsyncLimitsBlockingChecks() throws Exception {
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(Available.class, new AvailableConstraintFactory());
+        AvailableConstraint.maxConcurrentLookups.set(0);
+
+        ViolationReport report = new ValidationEngine(processor, 1).validateAsync(new Signup("free", "free", "free", "abc"))
+                .get(5, TimeUnit.SECONDS);
+        assertTrue(report.isValid());
+        assertEquals(1, AvailableConstraint.maxConcurrentLookups.get(), "Only one lookup should run at a time.");
+    }
+
+    @Test
+    public void testFilterValidIsLazy() {
+        List<Integer> levels = engine.filterValid(Stream.iterate(0, i -> i + 1).map(level -> new Profile("name", "nick", level)))
+                .limit(3)
+                .map(profile -> profile.level)
+                .toList();
+        assertEquals(List.of(1, 2, 3), levels, "Only valid elements of an unbounded stream should be kept.");
+    }
+
+    @Test
+    public void testPartitioningSendsInvalidElementsToSideChannel() {
+        List<Validated<Profile>> invalid = new ArrayList<>();
+        List<Profile> valid = Stream.of(new Profile("name", "nick", 5), new Profile("name", "nick", 15), new Profile("name", "nick", 7))
+                .collect(engine.partitioning(invalid::add, Collectors.toList()));
+        assertEquals(2, valid.size());
+        assertEquals(1, invalid.size());
+        assertEquals(15, invalid.get(0).getValue().level);
+        assertEquals(List.of("Value must be between 1.00 and 10.00"), invalid.get(0).getReport().getMessages());
+    }
+
+    @Test
+    public void testProcessorHonoursBackpressure() throws Exception {
+        List<Validated<Profile>> received = new ArrayList<>();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        try (SubmissionPublisher<Profile> publisher = new SubmissionPublisher<>()) {
+            Flow.Processor<Profile, Validated<Profile>> processor = engine.newProcessor();
+            processor.subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(Validated<Profile> item) {
+                    received.add(item);
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    done.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    done.complete(null);
+                }
+            });
+            publisher.subscribe(processor);
+            for (int i = 0; i < 1000; i++) {
+                publisher.submit(new Profile("name", "nick", i % 20));
+            }
+        }
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(1000, received.size(), "Every element should be published once.");
+        assertEquals(500, received.stream().filter(Validated::isValid).count());
+    }
+
+    @Test
+    public void testProcessorSignalsValidationFailureDownstream() throws Exception {
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(Available.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(Available annotation) {
+                return new Constraint<String>() {
+                    @Override
+                    public void validate(String value) {
+                        throw new IllegalStateException("Lookup failed");
+                    }
+
+                    @Override
+                    public Class<String> getType() {
+                        return String.class;
+                    }
+                };
+            }
+
+            @Override
+            public Class<Available> getAnnotationType() {
+                return Available.class;
+            }
+        });
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicInteger received = new AtomicInteger();
+        SubmissionPublisher<Signup> publisher = new SubmissionPublisher<>();
+        Flow.Processor<Signup, Validated<Signup>> validating = new ValidationEngine(processor).newProcessor();
+        validating.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Validated<Signup> item) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        publisher.subscribe(validating);
+        publisher.submit(new Signup("free", "free", "free", "abc"));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> done.get(5, TimeUnit.SECONDS));
+        assertEquals("Lookup failed", e.getCause().getMessage());
+        assertEquals(0, received.get());
+        for (int i = 0; i < 50 && publisher.hasSubscribers(); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(publisher.hasSubscribers(), "The upstream subscription should be cancelled.");
+        publisher.close();
+    }
+
+    @Test
+    public void testValidatedChecksEachElementOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(Available.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(Available annotation) {
+                return new AvailableConstraint() {
+                    @Override
+                    public boolean isValid(String value) {
+                        lookups.incrementAndGet();
+                        return !value.equals("taken");
+                    }
+                };
+            }
+
+            @Override
+            public Class<Available> getAnnotationType() {
+                return Available.class;
+            }
+        });
+        ValidationEngine countingEngine = new ValidationEngine(processor);
+
+        Signup taken = new Signup("taken", "free", "free", "abc");
+        countingEngine.validateAll(taken);
+        int collectingLookups = lookups.getAndSet(0);
+
+        ViolationReport report = new ViolationReport();
+        assertTrue(countingEngine.validated(new Signup("free", "free", "free", "abc"), report).isValid());
+        assertEquals(3, lookups.getAndSet(0));
+        Validated<Signup> invalid = countingEngine.validated(taken, report);
+        assertFalse(invalid.isValid());
+        assertSame(report, invalid.getReport(), "The reused report should hold the violations.");
+        assertEquals(collectingLookups, lookups.get(), "An invalid element should be checked once, not checked and then collected.");
+    }
+
+    @Test
+    public void testValidateAllCascadesWithPropertyPaths() {
+        Order order = new Order("ORD-1", new Address(""), List.of(new LineItem("AB-1", 1), new LineItem(null, 0)));
+        order.items.get(1).order = order;
+        ViolationReport report = engine.validateAll(order);
+        assertEquals(List.of("address.street", "items[1].sku", "items[1].quantity"),
+                List.of(report.getPath(0), report.getPath(1), report.getPath(2)));
+        assertEquals("Field sku cannot be null", report.getMessage(1));
+        assertFalse(engine.isValid(order), "Invalid nested objects should make the order invalid.");
+
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class, () -> engine.validate(order));
+        assertEquals("String must not be empty", exception.getMessage());
+    }
+
+    @Test
+    public void testCascadeHandlesCyclesAndDeepGraphs() {
+        LineItem item = new LineItem("AB-1", 1);
+        Order order = new Order("ORD-1", new Address("Main Street"), List.of(item));
+        item.order = order;
+        assertDoesNotThrow(() -> engine.validate(order), "Cycles should be visited once.");
+
+        Chain head = new Chain(1);
+        Chain tail = head;
+        for (int i = 0; i < 100_000; i++) {
+            tail.next = new Chain(1);
+            tail = tail.next;
+        }
+        tail.next = new Chain(15);
+        assertFalse(engine.isValid(head), "Deep graphs should be walked without overflowing the stack.");
+        assertEquals("next" + ".next".repeat(100_000) + ".level", engine.validateAll(head).getPath(0));
+    }
+
+    @Test
+    public void testValidateAllReportsElementViolationsWithIndexesAndKeys() {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        weights.put("x", 0.5);
+        weights.put("cpu", 2.0);
+        Telemetry telemetry = new Telemetry(new int[]{5, 101, 7, 250}, new double[]{0.5}, null,
+                Arrays.asList("disk", "", null), weights);
+
+        ViolationReport report = engine.validateAll(telemetry);
+        assertEquals(List.of("readings[1]", "readings[3]", "tags[1]", "tags[2]", "weights[x]", "weights[cpu]"),
+                IntStream.range(0, report.size()).mapToObj(report::getPath).toList());
+        assertEquals("Value must be no more than 100.0", report.getMessage(0));
+        assertEquals("Field tags[2] cannot be null", report.getMessage(3));
+        assertEquals(NotNull.class, report.getConstraintType(3));
+        assertEquals(0b11110010L, engine.failureMask(telemetry), "Element constraints should have their own slots.");
+
+        ConstraintViolationException exception = assertThrows(ConstraintViolationException.class, () -> engine.validate(telemetry));
+        assertEquals("Value must be no more than 100.0", exception.getMessage());
+    }
+
+    @Test
+    public void testPrimitiveArrayElements() {
+        int[] readings = new int[10_000];
+        Arrays.fill(readings, 100);
+        Telemetry telemetry = new Telemetry(readings, new double[]{0.0, 1.0}, new long[0], List.of(), Map.of());
+        assertTrue(engine.isValid(telemetry));
+        assertDoesNotThrow(() -> engine.validate(telemetry));
+
+        readings[9_999] = 101;
+        assertEquals("readings[9999]", engine.validateAll(telemetry).getPath(0));
+
+        ViolationReport report = engine.validateAll(new Telemetry(null, new double[]{1.5}, new long[]{1, 2, 3}, null, null));
+        assertEquals(List.of("Field readings cannot be null", "Value must be between 0.00 and 1.00",
+                "Field type mismatch for field ids[0]"), report.getMessages());
+    }
+
+    @Test
+    public void testDateConstraintsCompareWithEngineClock() {
+        engine.setClock(Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC));
+        assertEquals(Instant.parse("2024-03-10T12:00:00Z"), engine.getClock().instant());
+
+        assertTrue(engine.isValid(new Schedule(LocalDate.of(2024, 3, 10), LocalDateTime.of(2024, 3, 10, 12, 0),
+                Instant.parse("2024-03-10T12:00:00Z"), ZonedDateTime.parse("2024-03-10T13:00:00+01:00"))));
+
+        ViolationReport report = engine.validateAll(new Schedule(LocalDate.of(2024, 3, 11), LocalDateTime.of(2024, 3, 10, 12, 0, 0, 1_000_000),
+                Instant.parse("2024-03-10T11:59:59.999Z"), ZonedDateTime.parse("2024-03-10T12:59:00+01:00")));
+        assertEquals(List.of("Date must be in the past", "Date must be in the past", "Date must be in the future",
+                "Date must be in the future"), report.getMessages());
+    }
+
+    @Test
+    public void testCachedDateFollowsClockAcrossMidnightAndOffsetChanges() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-10T04:00:00Z"), ZoneId.of("America/New_York"));
+        engine.setClock(clock);
+        Schedule schedule = new Schedule(LocalDate.of(2024, 3, 10), LocalDateTime.of(2024, 3, 9, 23, 30), null, null);
+        assertFalse(engine.isValid(schedule), "It is still March 9th in New York.");
+
+        clock.instant = Instant.parse("2024-03-10T05:00:00Z");
+        assertTrue(engine.isValid(schedule), "The cached date should move on at midnight.");
+
+        clock.instant = Instant.parse("2024-03-10T07:30:00Z");
+        assertTrue(engine.isValid(new Schedule(null, LocalDateTime.of(2024, 3, 10, 3, 30), null, null)));
+        assertFalse(engine.isValid(new Schedule(null, LocalDateTime.of(2024, 3, 10, 3, 31), null, null)),
+                "The local time should follow the switch to daylight saving time.");
+    }
+
+    @Test
+    public void testValidateFieldsChecksOnlyTheGivenFields() {
+        Order order = new Order("", new Address(""), List.of(new LineItem(null, 0)));
+        assertEquals(4, engine.validateAll(order).size());
+
+        ViolationReport report = engine.validateFields(order, "address", "number", "number");
+        assertEquals(List.of("number", "address.street"), List.of(report.getPath(0), report.getPath(1)));
+        assertEquals(2, report.size());
+        assertTrue(engine.validateFields(order).isValid());
+        assertTrue(engine.validateFields(new Ledger("EUR", -1, 0.5, null), "note").isValid(), "Fields without constraints should be ignored.");
+        assertThrows(IllegalArgumentException.class, () -> engine.validateFields(order, "missing"));
+    }
+
+    @Test
+    public void testRevalidateChecksOnlyChangedFields() {
+        Ledger previous = new Ledger("EUR", -1, Double.NaN, "opened");
+        Ledger current = new Ledger("", -1, Double.NaN, "renamed");
+        ViolationReport report = engine.revalidate(previous, current);
+        assertEquals(1, report.size(), "The unchanged balance should not be checked again.");
+        assertEquals("currency", report.getPath(0));
+
+        assertEquals(2, engine.revalidate(null, current).size());
+        assertTrue(engine.revalidate(current, new Ledger("", 5, 2.0, "renamed")).getMessages().contains("Value must be no more than 1.0"));
+        assertThrows(IllegalArgumentException.class, () -> engine.revalidate(new Address("Main Street"), (Object) current));
+    }
+
+    @Test
+    public void testResultCacheServesRepeatValidationsOfImmutableInstances() {
+        ResultCache cache = new ResultCache(4);
+        engine.setResultCache(cache);
+        Sku sku = new Sku("AB-1", 3);
+        assertTrue(engine.isValid(sku));
+        assertTrue(engine.isValid(sku));
+        assertTrue(engine.validateAll(sku).isValid());
+        assertFalse(engine.isValid(new Sku("", 3)));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        assertTrue(engine.isValid(new Money("EUR", 5)));
+        assertTrue(engine.isValid(new Money("EUR", 5)), "Equal value objects should share their result.");
+        assertTrue(engine.isValid(new Ledger("EUR", 0, 0.5, null)));
+        assertTrue(engine.isValid(new Trial(LocalDate.now().plusDays(1))));
+        assertEquals(3, cache.getHitCount());
+        assertEquals(3, cache.getMissCount(), "Mutable and time-dependent instances should not be looked up.");
+        assertEquals(0.5, cache.getHitRate());
+        assertFalse(ResultCache.isImmutable(Ledger.class));
+
+        engine.setClock(Clock.systemUTC());
+        assertTrue(engine.isValid(sku));
+        assertEquals(3, cache.getHitCount(), "A result should not outlive the plan it was computed with.");
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(engine.isValid(new Sku("CD-" + i, i)));
+        }
+        assertTrue(cache.size() <= 4);
+        assertTrue(cache.getEvictionCount() + cache.getRejectionCount() >= 8);
+    }
+
+    record Trial(@FutureDate LocalDate ends) {
+    }
+
+    @Test
+    public void testResultCacheSkipsRecordsWithMutableContents() {
+        ResultCache cache = new ResultCache();
+        engine.setResultCache(cache);
+        List<Address> addresses = new ArrayList<>(List.of(new Address("Main Street")));
+        Route route = new Route(addresses);
+        assertTrue(engine.isValid(route));
+        addresses.add(new Address(""));
+        assertFalse(engine.isValid(route), "A change to the list of a record should be seen.");
+        assertThrows(ConstraintViolationException.class, () -> engine.validate(route));
+        assertEquals(0, cache.getMissCount(), "Records that cascade should not be looked up.");
+    }
+
+    @Test
+    public void testResultCacheHitsAreRecordedToMetrics() throws Exception {
+        ValidationStats stats = new ValidationStats();
+        engine.setMetrics(stats);
+        engine.setResultCache(new ResultCache());
+        Sku sku = new Sku("AB-1", 3);
+        engine.validate(sku);
+        engine.validate(sku);
+        engine.isValid(sku);
+        engine.validateAll(sku);
+        assertEquals(4, stats.getClassStats(Sku.class).getValidations());
+        assertEquals(3, engine.getResultCache().getHitCount());
+    }
+
+    record Route(@Valid List<Address> stops) {
+    }
+
+    @Test
+    public void testResultCacheSkipsPlansWithBlockingConstraints() {
+        List<String> taken = new ArrayList<>();
+        ConstraintProcessor processor = new ConstraintProcessor();
+        processor.registerFactory(Available.class, new ConstraintFactory<>() {
+            @Override
+            public Constraint<?> create(Available annotation) {
+                return new AvailableConstraint() {
+                    @Override
+                    public boolean isValid(String value) {
+                        return !taken.contains(value);
+                    }
+                };
+            }
+
+            @Override
+            public Class<Available> getAnnotationType() {
+                return Available.class;
+            }
+        });
+        ValidationEngine lookupEngine = new ValidationEngine(processor);
+        ResultCache cache = new ResultCache();
+        lookupEngine.setResultCache(cache);
+
+        Handle handle = new Handle("remi");
+        assertTrue(processor.getPlan(Handle.class).hasBlockingConstraints());
+        assertTrue(lookupEngine.isValid(handle));
+        taken.add("remi");
+        assertFalse(lookupEngine.isValid(handle), "A lookup whose outcome changed should be run again.");
+        assertEquals(0, cache.size(), "Outcomes that depend on external state should not be cached.");
+    }
+
+    record Handle(@Available String name) {
+    }
+
+    @Test
+    public void testRequireValidChecksRecordComponentsInCompactConstructor() {
+        assertDoesNotThrow(() -> new Parcel("box", 2, new Address("Main Street")));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> new Parcel("box", 0, null));
+        assertInstanceOf(ConstraintViolationException.class, e.getCause());
+        assertThrows(IllegalArgumentException.class, () -> new Parcel("box", 2, new Address("")), "Validation should cascade into components.");
+        assertThrows(IllegalArgumentException.class, () -> engine.requireValid(Parcel.class, "box", 2));
+        assertFalse(engine.validateAll(new Sku("", -1)).isValid());
+    }
+
+    record Parcel(@NotEmpty String label, @MinValue(1) int weight, @Valid Address destination) {
+        private static final ValidationEngine ENGINE = new ValidationEngine();
+
+        Parcel {
+            ENGINE.requireValid(Parcel.class, label, weight, destination);
+        }
+    }
+
+    record Sku(@NotEmpty String code, @MinValue(0) int stock) {
+    }
+
+    @Immutable(byValue = true)
+    static final class Money {
+        @NotEmpty
+        private final String currency;
+        @MinValue(0)
+        private final long cents;
+
+        Money(String currency, long cents) {
+            this.currency = currency;
+            this.cents = cents;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Money money && currency.equals(money.currency) && cents == money.cents;
+        }
+
+        @Override
+        public int hashCode() {
+            return currency.hashCode() * 31 + Long.hashCode(cents);
+        }
+    }
+
+    static class Ledger {
+        @NotEmpty
+        private final String currency;
+        @MinValue(0)
+        private final int balance;
+        @MaxValue(1)
+        private final double rate;
+        private final String note;
+
+        Ledger(String currency, int balance, double rate, String note) {
+            this.currency = currency;
+            this.balance = balance;
+            this.rate = rate;
+            this.note = note;
+        }
+    }
+
+    static class MutableClock extends Clock {
+        private final ZoneId zone;
+        private Instant instant;
+
+        MutableClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MutableClock(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    static class Schedule {
+        @PastDate
+        private final LocalDate opened;
+        @PastDate
+        private final LocalDateTime updated;
+        @FutureDate
+        private final Instant expires;
+        @FutureDate
+        private final ZonedDateTime renews;
+
+        Schedule(LocalDate opened, LocalDateTime updated, Instant expires, ZonedDateTime renews) {
+            this.opened = opened;
+            this.updated = updated;
+            this.expires = expires;
+            this.renews = renews;
+        }
+    }
+
+    static class Telemetry {
+        @NotNull
+        @MaxValue(100)
+        private final int[] readings;
+        @Range(min = 0, max = 1)
+        private final double[] ratios;
+        @Pattern("\\d+")
+        private final long[] ids;
+        private final List<@NotNull @NotEmpty String> tags;
+        private final Map<@Size(min = 2, max = 5) String, @Range(min = 0, max = 1) Double> weights;
+
+        public Telemetry(int[] readings, double[] ratios, long[] ids, List<String> tags, Map<String, Double> weights) {
+            this.readings = readings;
+            this.ratios = ratios;
+            this.ids = ids;
+            this.tags = tags;
+            this.weights = weights;
+        }
+    }
+
+    static class Order {
+        @NotEmpty
+        private final String number;
+        @Valid
+        private final Address address;
+        @Valid
+        private final List<LineItem> items;
+
+        public Order(String number, Address address, List<LineItem> items) {
+            this.number = number;
+            this.address = address;
+            this.items = items;
+        }
+    }
+
+    static class Address {
+        @NotEmpty
+        private final String street;
+
+        public Address(String street) {
+            this.street = street;
+        }
+    }
+
+    static class LineItem {
+        @NotNull
+        @Pattern("^[A-Z]{2}-\\d+$")
+        private final String sku;
+        @Range(min = 1, max = 99)
+        private final Integer quantity;
+        @Valid
+        private Order order;
+
+        public LineItem(String sku, Integer quantity) {
+            this.sku = sku;
+            this.quantity = quantity;
+        }
+    }
+
+    static class Chain {
+        @Range(min = 1, max = 10)
+        private final Integer level;
+        @Valid
+        private Chain next;
+
+        public Chain(Integer level) {
+            this.level = level;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface Available {
+    }
+
+    static class AvailableConstraintFactory implements ConstraintFactory<Available> {
+        @Override
+        public Constraint<?> create(Available annotation) {
+            return new AvailableConstraint();
+        }
+
+        @Override
+        public Class<Available> getAnnotationType() {
+            return Available.class;
+        }
+    }
+
+    static class AvailableConstraint implements Constraint<String> {
+        static final long LOOKUP_MILLIS = 200;
+        static final AtomicInteger concurrentLookups = new AtomicInteger();
+        static final AtomicInteger maxConcurrentLookups = new AtomicInteger();
+
+        @Override
+        public void validate(String value) throws ConstraintViolationException {
+            if (!isValid(value)) {
+                throw new ConstraintViolationException(getMessage(value));
+            }
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            maxConcurrentLookups.accumulateAndGet(concurrentLookups.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(LOOKUP_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentLookups.decrementAndGet();
+            }
+            return !value.equals("taken");
+        }
+
+        @Override
+        public String getMessage(String value) {
+            return "Value is already taken";
+        }
+
+        @Override
+        public Class<String> getType() {
+            return String.class;
+        }
+
+        @Override
+        public boolean isBlocking() {
+            return true;
+        }
+    }
+
+    static class Signup {
+        @Available
+        private final String username;
+        @Available
+        private final String alias;
+        @Available
+        private final String nickname;
+        @MinLength(3)
+        private final String code;
+
+        public Signup(String username, String alias, String nickname, String code) {
+            this.username = username;
+            this.alias = alias;
+            this.nickname = nickname;
+            this.code = code;
+        }
+    }
+
+    static class Profile {
+        @NotNull
+        private final String name;
+        @MinLength(3)
+        @Pattern("^[a-z]{2,}$")
+        private final String nickname;
+        @Range(min = 1, max = 10)
+        private final Integer level;
+
+        public Profile(String name, String nickname, Integer level) {
+            this.name = name;
+            this.nickname = nickname;
+            this.level = level;
+        }
+    }
+
     static class User {
         @MinLength(5)
         private final String username;
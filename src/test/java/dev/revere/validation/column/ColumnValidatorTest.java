@@ -0,0 +1,134 @@
+package dev.revere.validation.column;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.MaxValue;
+import dev.revere.validation.annotations.NotEmpty;
+import dev.revere.validation.annotations.Range;
+import dev.revere.validation.constraints.impl.MaxValueConstraint;
+import dev.revere.validation.constraints.impl.MinValueConstraint;
+import dev.revere.validation.constraints.impl.RangeConstraint;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class ColumnValidatorTest {
+    private static final double[] SPECIAL_VALUES = {Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -0.0, 0.0, 1.0, -1.0};
+
+    @Test
+    public void testVectorKernelIsUsedWhenModuleIsResolved() {
+        boolean resolved = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(resolved, ColumnKernel.preferred().getName().startsWith("vector"),
+                "The vector kernel should be preferred exactly when jdk.incubator.vector is resolved.");
+    }
+
+    @Test
+    public void testKernelsMatchConstraintsRowByRow() {
+        RangeConstraint range = new RangeConstraint(-0.5, 0.75);
+        MaxValueConstraint maxValue = new MaxValueConstraint(0.5);
+        ColumnValidator vector = ColumnValidator.of(ColumnKernel.preferred(), range, maxValue);
+        ColumnValidator scalar = ColumnValidator.of(ColumnKernel.scalar(), range, maxValue);
+
+        SplittableRandom random = new SplittableRandom(17);
+        for (int length = 0; length < 300; length++) {
+            double[] column = new double[length + 5];
+            for (int i = 0; i < column.length; i++) {
+                column[i] = random.nextInt(8) == 0 ? SPECIAL_VALUES[random.nextInt(SPECIAL_VALUES.length)] : random.nextDouble(-1, 1);
+            }
+
+            BitSet expected = new BitSet();
+            for (int row = 0; row < length; row++) {
+                if (!range.isValid(column[row + 3]) || !maxValue.isValid(column[row + 3])) {
+                    expected.set(row);
+                }
+            }
+            for (ColumnValidator validator : new ColumnValidator[]{vector, scalar}) {
+                long[] bitmap = new long[ColumnValidator.bitmapLength(length)];
+                assertEquals(expected.cardinality(), validator.validate(column, 3, 3 + length, bitmap));
+                assertEquals(expected, BitSet.valueOf(bitmap), validator.getKernel().getName() + " with " + length + " rows");
+            }
+        }
+    }
+
+    @Test
+    public void testIntegerKernelsAgree() {
+        SplittableRandom random = new SplittableRandom(23);
+        long[][] bounds = {{Long.MIN_VALUE, Long.MAX_VALUE}, {-3, 3}, {Long.MIN_VALUE, -1}, {0, Long.MAX_VALUE}, {5, 5}};
+        for (long[] bound : bounds) {
+            int intMin = (int) Math.max(bound[0], Integer.MIN_VALUE);
+            int intMax = (int) Math.min(bound[1], Integer.MAX_VALUE);
+            for (int length = 0; length < 200; length += 7) {
+                long[] longs = random.longs(length).map(value -> random.nextBoolean() ? value : value % 8).toArray();
+                int[] ints = random.ints(length).map(value -> random.nextBoolean() ? value : value % 8).toArray();
+                long[] expected = new long[ColumnValidator.bitmapLength(length)];
+                long[] actual = new long[expected.length];
+                assertEquals(ColumnKernel.scalar().check(longs, 0, length, bound[0], bound[1], expected, 0),
+                        ColumnKernel.preferred().check(longs, 0, length, bound[0], bound[1], actual, 0));
+                assertArrayEquals(expected, actual);
+
+                expected = new long[expected.length];
+                actual = new long[expected.length];
+                assertEquals(ColumnKernel.scalar().check(ints, 0, length, intMin, intMax, expected, 0),
+                        ColumnKernel.preferred().check(ints, 0, length, intMin, intMax, actual, 0));
+                assertArrayEquals(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testIntegerColumnsAreComparedExactly() {
+        long limit = 1L << 53;
+        ColumnValidator validator = ColumnValidator.of(new MinValueConstraint(0), new MaxValueConstraint(limit));
+        assertEquals(BitSet.valueOf(new long[]{0b1010}), validator.validate(new long[]{limit, limit + 1, 0, -1}),
+                "2^53 + 1 rounds to 2^53 as a double but should still fail.");
+
+        ColumnValidator fractional = ColumnValidator.of(new RangeConstraint(0.5, 2.5));
+        assertEquals(BitSet.valueOf(new long[]{0b1001}), fractional.validate(new int[]{0, 1, 2, 3}));
+
+        ColumnValidator none = ColumnValidator.of(new RangeConstraint(0.2, 0.8));
+        assertEquals(70, none.validate(new int[70]).cardinality(), "No integer lies between the bounds.");
+    }
+
+    @Test
+    public void testDirectBufferIsValidatedInChunks() {
+        int rows = 10_000;
+        DoubleBuffer column = ByteBuffer.allocateDirect(rows * Double.BYTES).asDoubleBuffer();
+        for (int i = 0; i < rows; i++) {
+            column.put(i, i % 1000 == 999 ? 2.0 : 0.5);
+        }
+        column.position(1);
+
+        BitSet failures = ColumnValidator.of(new RangeConstraint(0, 1)).validate(column);
+        assertEquals(10, failures.cardinality());
+        assertTrue(failures.get(998) && failures.get(9998));
+        assertEquals(1, column.position(), "The buffer position should not change.");
+    }
+
+    @Test
+    public void testEngineCreatesColumnValidatorFromField() {
+        ValidationEngine engine = new ValidationEngine();
+        ColumnValidator validator = engine.columnValidator(Reading.class, "value");
+        assertEquals(0.0, validator.getMin());
+        assertEquals(50.0, validator.getMax());
+        assertEquals(BitSet.valueOf(new long[]{0b100}), validator.validate(new double[]{0, 50, 51}));
+
+        assertThrows(IllegalArgumentException.class, () -> engine.columnValidator(Reading.class, "sensor"));
+    }
+
+    static class Reading {
+        @NotEmpty
+        private String sensor;
+        @Range(min = 0, max = 100)
+        @MaxValue(50)
+        private Double value;
+    }
+}
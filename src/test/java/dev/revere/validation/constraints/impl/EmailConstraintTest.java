@@ -0,0 +1,106 @@
+package dev.revere.validation.constraints.impl;
+
+import dev.revere.validation.annotations.Email;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the email scanner with the regular expressions it replaces.
+ *
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class EmailConstraintTest {
+    private static final Pattern STANDARD_PATTERN = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+    private static final Pattern RELAXED_PATTERN = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,63}$");
+    private static final String ALPHABET = "aZ9_-.@.@-x+ é\n";
+    private static final int CORPUS_SIZE = 200_000;
+
+    @Test
+    public void testStandardMatchesRegexOnGeneratedCorpus() {
+        assertMatchesRegex(new EmailConstraint(), STANDARD_PATTERN);
+    }
+
+    @Test
+    public void testRelaxedMatchesRegexOnGeneratedCorpus() {
+        assertMatchesRegex(new EmailConstraint(Email.Strictness.RELAXED), RELAXED_PATTERN);
+    }
+
+    @Test
+    public void testStrictnessControlsTopLevelDomainLength() {
+        EmailConstraint standard = new EmailConstraint();
+        EmailConstraint relaxed = new EmailConstraint(Email.Strictness.RELAXED);
+        assertTrue(standard.isValid("user.name@mail.example.info"), "Four character domain should be valid.");
+        assertFalse(standard.isValid("user@example.technology"), "Long domain should be invalid by default.");
+        assertTrue(relaxed.isValid("user@example.technology"), "Long domain should be valid when relaxed.");
+        assertFalse(relaxed.isValid("user@example.c"), "Single character domain should always be invalid.");
+        assertFalse(relaxed.isValid(null), "Null should be invalid.");
+    }
+
+    private static void assertMatchesRegex(EmailConstraint constraint, Pattern pattern) {
+        for (String value : corpus()) {
+            assertEquals(pattern.matcher(value).matches(), constraint.isValid(value),
+                    () -> "Scanner and regex disagree on \"" + value + "\"");
+        }
+    }
+
+    private static List<String> corpus() {
+        Random random = new Random(42);
+        List<String> corpus = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE / 2; i++) {
+            corpus.add(randomString(random, random.nextInt(16)));
+        }
+        for (int i = 0; i < CORPUS_SIZE / 2; i++) {
+            corpus.add(mutate(random, randomAddress(random)));
+        }
+        return corpus;
+    }
+
+    private static String randomAddress(Random random) {
+        StringBuilder builder = new StringBuilder(randomLabel(random, 1 + random.nextInt(6)));
+        builder.append('@');
+        int labels = 1 + random.nextInt(3);
+        for (int i = 0; i < labels; i++) {
+            builder.append(randomLabel(random, 1 + random.nextInt(5))).append('.');
+        }
+        return builder.append(randomLabel(random, 1 + random.nextInt(12))).toString();
+    }
+
+    private static String mutate(Random random, String address) {
+        if (random.nextBoolean()) {
+            return address;
+        }
+        StringBuilder builder = new StringBuilder(address);
+        int position = random.nextInt(builder.length() + 1);
+        char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        switch (random.nextInt(3)) {
+            case 0 -> builder.insert(position, c);
+            case 1 -> builder.deleteCharAt(Math.min(position, builder.length() - 1));
+            default -> builder.setCharAt(Math.min(position, builder.length() - 1), c);
+        }
+        return builder.toString();
+    }
+
+    private static String randomLabel(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append("abcXYZ019_-".charAt(random.nextInt(11)));
+        }
+        return builder.toString();
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+}
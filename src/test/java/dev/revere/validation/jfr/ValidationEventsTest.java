@@ -0,0 +1,83 @@
+package dev.revere.validation.jfr;
+
+import dev.revere.validation.ConstraintProcessor;
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.annotations.NotNull;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class ValidationEventsTest {
+
+    @Test
+    public void testEventsAreRecordedWhenEnabled() throws Exception {
+        ValidationEngine engine = new ValidationEngine(new ConstraintProcessor());
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(ValidationEvent.NAME);
+            recording.enable(SlowConstraintEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(PlanBuildEvent.NAME);
+            recording.start();
+            assertTrue(ValidationEvents.isConstraintTimingEnabled());
+
+            assertTrue(engine.isValid(new Account("alice")));
+            assertFalse(engine.validateAll(new Account("al")).isValid());
+
+            recording.stop();
+            assertFalse(ValidationEvents.isConstraintTimingEnabled());
+            Path file = Files.createTempFile("validation", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+        List<RecordedEvent> validations = ofType(events, ValidationEvent.NAME);
+        assertEquals(2, validations.size());
+        assertEquals(Account.class.getName(), validations.get(0).getClass("validatedClass").getName());
+        assertEquals(1, validations.get(0).getInt("fieldCount"));
+        assertTrue(validations.get(0).getBoolean("valid"));
+        assertFalse(validations.get(1).getBoolean("valid"));
+
+        List<RecordedEvent> plans = ofType(events, PlanBuildEvent.NAME);
+        assertEquals(1, plans.size());
+        assertEquals(2, plans.get(0).getInt("constraintCount"));
+        assertFalse(plans.get(0).getBoolean("compiled"));
+
+        List<RecordedEvent> checks = ofType(events, SlowConstraintEvent.NAME);
+        assertEquals(4, checks.size(), "Every constraint check should be timed.");
+        assertEquals("name", checks.get(0).getString("field"));
+        assertEquals(MinLength.class.getName(), checks.get(3).getClass("annotationType").getName());
+        assertFalse(checks.get(3).getBoolean("met"));
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    static class Account {
+        @NotNull
+        @MinLength(3)
+        private final String name;
+
+        Account(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package dev.revere.validation.metrics;
+
+import dev.revere.validation.ValidationEngine;
+import dev.revere.validation.annotations.MaxValue;
+import dev.revere.validation.annotations.MinLength;
+import dev.revere.validation.annotations.NotNull;
+import dev.revere.validation.exceptions.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class ValidationStatsTest {
+
+    @Test
+    public void testHistogramPercentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000, histogram.getMax());
+        assertEquals(5000.5, histogram.getMean());
+        assertEquals(5000, histogram.getValueAtPercentile(50), 5000 * 0.125);
+        assertEquals(9900, histogram.getValueAtPercentile(99), 9900 * 0.125);
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+    }
+
+    @Test
+    public void testBucketsCoverEveryValue() {
+        for (long value : new long[]{0, 7, 8, 15, 16, 17, 1000, 1L << 40, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.upperBoundOf(bucket), "Value " + value);
+            assertTrue(bucket == 0 || value > LatencyHistogram.upperBoundOf(bucket - 1), "Value " + value);
+        }
+    }
+
+    @Test
+    public void testEngineRecordsValidationsAndViolations() {
+        ValidationEngine engine = new ValidationEngine();
+        assertNull(engine.getMetrics(), "Metrics should be off by default.");
+        ValidationStats stats = new ValidationStats();
+        engine.setMetrics(stats);
+
+        engine.isValid(new Order("abc", 5.0));
+        engine.validateAll(new Order("a", 50.0));
+        engine.failureMask(new Order(null, 5.0));
+        engine.validated(new Order("a", 5.0));
+
+        ClassStats order = stats.getClassStats(Order.class);
+        assertEquals(4, order.getValidations());
+        assertEquals(3, order.getInvalid());
+        assertEquals(0.75, order.getInvalidRate());
+        assertTrue(order.getMaxNanos() >= order.getP50Nanos());
+
+        ConstraintStats minLength = stats.getConstraintStats(MinLength.class);
+        assertEquals(4, minLength.getChecks());
+        assertEquals(2, minLength.getViolations());
+        assertEquals(1, stats.getConstraintStats(MaxValue.class).getViolations());
+        assertEquals(1, stats.getConstraintStats(NotNull.class).getViolations());
+
+        engine.setMetrics(null);
+        engine.isValid(new Order("abc", 5.0));
+        assertEquals(4, stats.getValidations(), "Validations should not be recorded once metrics are off.");
+    }
+
+    @Test
+    public void testFailFastValidationsRecordTheConstraintTheyStoppedAt() throws Exception {
+        ValidationEngine engine = new ValidationEngine();
+        ValidationStats stats = new ValidationStats();
+        engine.setMetrics(stats);
+
+        assertThrows(ConstraintViolationException.class, () -> engine.validate(new Order("a", 50.0)));
+        assertFalse(engine.isValid(new Order("abc", 50.0)));
+        engine.validate(new Order("abc", 5.0));
+
+        ClassStats order = stats.getClassStats(Order.class);
+        assertEquals(3, order.getValidations());
+        assertEquals(2, order.getInvalid());
+
+        ConstraintStats notNull = stats.getConstraintStats(NotNull.class);
+        ConstraintStats minLength = stats.getConstraintStats(MinLength.class);
+        ConstraintStats maxValue = stats.getConstraintStats(MaxValue.class);
+        assertEquals(List.of(3L, 0L), List.of(notNull.getChecks(), notNull.getViolations()));
+        assertEquals(List.of(3L, 1L), List.of(minLength.getChecks(), minLength.getViolations()));
+        assertEquals(List.of(2L, 1L), List.of(maxValue.getChecks(), maxValue.getViolations()),
+                "The amount should not count as checked when validation stopped at the reference.");
+
+        stats.reset();
+        assertEquals(0, stats.getConstraintStats(MaxValue.class).getChecks());
+    }
+
+    @Test
+    public void testStatsAreExposedOverJmx() throws Exception {
+        ValidationStats stats = new ValidationStats();
+        ValidationEngine engine = new ValidationEngine();
+        engine.setMetrics(stats);
+        engine.validateAll(new Order("a", 5.0));
+
+        ObjectName name = stats.register("test");
+        try {
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Validations"));
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Invalid"));
+            assertEquals(1, ((Object[]) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "ClassStats")).length);
+        } finally {
+            stats.unregister(name);
+        }
+        assertEquals(List.of(), new ValidationStats().getClassStats());
+    }
+
+    static class Order {
+        @NotNull
+        @MinLength(3)
+        private final String reference;
+        @MaxValue(10)
+        private final Double amount;
+
+        Order(String reference, Double amount) {
+            this.reference = reference;
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package dev.revere.validation.plan;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Remi
+ * @project java-validation-library
+ * @date 8/19/2024
+ */
+public class FieldAccessorTest {
+
+    @Test
+    public void testReadsPrivateObjectField() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.of(Reading.class.getDeclaredField("label"));
+        assertEquals("sensor", accessor.get(new Reading("sensor", 7, 9L, 1.5)), "Accessor should read private fields.");
+    }
+
+    @Test
+    public void testReadsPrimitivesWithoutBoxing() throws NoSuchFieldException {
+        Reading reading = new Reading("sensor", 7, 9L, 1.5);
+        assertEquals(7, FieldAccessor.of(Reading.class.getDeclaredField("count")).getInt(reading));
+        assertEquals(9L, FieldAccessor.of(Reading.class.getDeclaredField("total")).getLong(reading));
+        assertEquals(1.5, FieldAccessor.of(Reading.class.getDeclaredField("average")).getDouble(reading));
+    }
+
+    @Test
+    public void testWidensNarrowerPrimitives() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.of(Reading.class.getDeclaredField("count"));
+        Reading reading = new Reading("sensor", 7, 9L, 1.5);
+        assertEquals(7L, accessor.getLong(reading), "Int fields should be readable as long.");
+        assertEquals(7.0, accessor.getDouble(reading), "Int fields should be readable as double.");
+        assertEquals(7, accessor.get(reading), "Primitive fields should be boxed by get.");
+    }
+
+    @Test
+    public void testRejectsNarrowingReads() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.of(Reading.class.getDeclaredField("label"));
+        assertThrows(IllegalStateException.class, () -> accessor.getInt(new Reading("sensor", 7, 9L, 1.5)),
+                "Reference fields should not be readable as int.");
+    }
+
+    @Test
+    public void testReadsStaticField() throws NoSuchFieldException {
+        FieldAccessor accessor = FieldAccessor.of(Reading.class.getDeclaredField("UNIT"));
+        assertEquals("celsius", accessor.get(null), "Static fields should not need an instance.");
+    }
+
+    static class Reading {
+        private static final String UNIT = "celsius";
+
+        private final String label;
+        private final int count;
+        private final long total;
+        private final double average;
+
+        Reading(String label, int count, long total, double average) {
+            this.label = label;
+            this.count = count;
+            this.total = total;
+            this.average = average;
+        }
+    }
+}